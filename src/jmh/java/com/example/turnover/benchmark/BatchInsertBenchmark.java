@@ -0,0 +1,147 @@
+package com.example.turnover.benchmark;
+
+import com.example.turnover.model.entity.TimeOrderedUuidGenerator;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.TurnoverRepository;
+import com.example.turnover.repository.WorkOrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Write throughput in rows per second (one turnover + three work orders per turnover, 250 turnovers
+ * per transaction).
+ *
+ *   jdbcBatchSize=1   statements sent one by one — the write path before batching was configured
+ *   jdbcBatchSize=50  hibernate.jdbc.batch_size / JdbcTemplate batch as configured now
+ *
+ * jpaSaveAll goes through the repositories (time-ordered ids, ordered inserts); the two jdbc
+ * benchmarks insert the same rows with random v4 and time-ordered v7 ids, isolating the effect of
+ * id order on the primary key index as the tables grow over the trial.
+ *
+ *   ./gradlew jmh -Pjmh.includes=BatchInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS_PER_OP)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BatchInsertBenchmark {
+
+    static final int TURNOVERS_PER_OP = 250;
+    static final int ROWS_PER_OP = TURNOVERS_PER_OP * (1 + 3);
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private TurnoverRepository turnoverRepository;
+    private WorkOrderRepository workOrderRepository;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transactionTemplate;
+    private long propertySequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("batch-insert-bench-" + jdbcBatchSize,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        turnoverRepository = context.getBean(TurnoverRepository.class);
+        workOrderRepository = context.getBean(WorkOrderRepository.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void jpaSaveAll() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Turnover> turnovers = new ArrayList<>(TURNOVERS_PER_OP);
+            for (int i = 0; i < TURNOVERS_PER_OP; i++) {
+                Turnover turnover = new Turnover();
+                turnover.setPropertyId("PROP-BATCH-" + propertySequence++);
+                turnover.setStartedAt(now);
+                turnover.setCompletedAt(now);
+                turnover.setStatus(TurnoverStatus.COMPLETED);
+                turnovers.add(turnover);
+            }
+            turnoverRepository.saveAll(turnovers);
+
+            List<WorkOrder> workOrders = new ArrayList<>(TURNOVERS_PER_OP * 3);
+            for (Turnover turnover : turnovers) {
+                for (WorkOrderType type : WorkOrderType.values()) {
+                    WorkOrder wo = new WorkOrder();
+                    wo.setTurnoverId(turnover.getId());
+                    wo.setType(type);
+                    wo.setStatus(WorkOrderStatus.COMPLETED);
+                    wo.setStartedAt(now);
+                    wo.setSlaDeadline(now.plusHours(type.getSlaHours()));
+                    wo.setCompletedAt(now);
+                    workOrders.add(wo);
+                }
+            }
+            workOrderRepository.saveAll(workOrders);
+        });
+    }
+
+    @Benchmark
+    public void jdbcRandomIds() {
+        jdbcInsert(UUID::randomUUID);
+    }
+
+    @Benchmark
+    public void jdbcTimeOrderedIds() {
+        jdbcInsert(TimeOrderedUuidGenerator::next);
+    }
+
+    private void jdbcInsert(Supplier<UUID> ids) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> turnovers = new ArrayList<>(TURNOVERS_PER_OP);
+        List<Object[]> workOrders = new ArrayList<>(TURNOVERS_PER_OP * 3);
+        for (int i = 0; i < TURNOVERS_PER_OP; i++) {
+            UUID turnoverId = ids.get();
+            turnovers.add(new Object[]{turnoverId, "PROP-BATCH-" + propertySequence++, now, now,
+                    TurnoverStatus.COMPLETED.name()});
+            for (WorkOrderType type : WorkOrderType.values()) {
+                workOrders.add(new Object[]{ids.get(), turnoverId, type.name(), WorkOrderStatus.COMPLETED.name(),
+                        now, now, now});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            batch("""
+                    INSERT INTO turnover (id, property_id, started_at, completed_at, status, pending_work_order_types, version)
+                    VALUES (?, ?, ?, ?, ?, 0, 0)
+                    """, turnovers);
+            batch("""
+                    INSERT INTO work_order (id, turnover_id, type, status, started_at, sla_deadline, completed_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)
+                    """, workOrders);
+        });
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        jdbc.batchUpdate(sql, rows, jdbcBatchSize, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.turnover.benchmark;
+
+import com.example.turnover.TurnOverApplication;
+import com.example.turnover.model.entity.TimeOrderedUuidGenerator;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared setup for the Spring-backed benchmarks: boots the application without the web server
+ * against its own in-memory H2 database and bulk-seeds historical data with plain JDBC batches,
+ * so seeding 1M turnovers does not dominate the trial.
+ */
+final class BenchmarkApp {
+
+    private static final int SEED_CHUNK = 10_000;
+
+    private BenchmarkApp() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "spring.main.banner-mode=off",
+                "logging.level.com.example.turnover=WARN"));
+        properties.addAll(List.of(extraProperties));
+        return new SpringApplicationBuilder(TurnOverApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Inserts {@code count} completed turnovers (each with INSPECTION, CLEANING and REPAIR) spread
+     * over the past years and returns their ids.
+     */
+    static UUID[] seedCompletedTurnovers(JdbcTemplate jdbc, int count) {
+        UUID[] ids = new UUID[count];
+        LocalDateTime base = LocalDateTime.now().minusYears(5);
+        List<Object[]> turnovers = new ArrayList<>(SEED_CHUNK);
+        List<Object[]> workOrders = new ArrayList<>(SEED_CHUNK * 3);
+
+        for (int i = 0; i < count; i++) {
+            UUID id = TimeOrderedUuidGenerator.next();
+            ids[i] = id;
+            LocalDateTime moveOut = base.plusMinutes(i * 2L);
+            int inspection = 2 + i % 5;
+            int cleaning = 5 + i % 7;
+            int repair = 12 + i % 40;
+            LocalDateTime done = moveOut.plusHours(inspection + Math.max(cleaning, repair));
+
+            turnovers.add(new Object[]{id, "PROP-SEED-" + i, ts(moveOut), ts(done), TurnoverStatus.COMPLETED.name()});
+            workOrders.add(workOrder(id, WorkOrderType.INSPECTION, moveOut, moveOut.plusHours(inspection)));
+            workOrders.add(workOrder(id, WorkOrderType.CLEANING, moveOut.plusHours(inspection),
+                    moveOut.plusHours(inspection + cleaning)));
+            workOrders.add(workOrder(id, WorkOrderType.REPAIR, moveOut.plusHours(inspection),
+                    moveOut.plusHours(inspection + repair)));
+
+            if (turnovers.size() == SEED_CHUNK || i == count - 1) {
+                jdbc.batchUpdate("""
+                        INSERT INTO turnover (id, property_id, started_at, completed_at, status, pending_work_order_types, version)
+                        VALUES (?, ?, ?, ?, ?, 0, 0)
+                        """, turnovers);
+                jdbc.batchUpdate("""
+                        INSERT INTO work_order (id, turnover_id, type, status, started_at, sla_deadline, completed_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """, workOrders);
+                turnovers.clear();
+                workOrders.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static Object[] workOrder(UUID turnoverId, WorkOrderType type, LocalDateTime start, LocalDateTime end) {
+        return new Object[]{TimeOrderedUuidGenerator.next(), turnoverId, type.name(), WorkOrderStatus.COMPLETED.name(),
+                ts(start), ts(start.plusHours(type.getSlaHours())), ts(end)};
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+}
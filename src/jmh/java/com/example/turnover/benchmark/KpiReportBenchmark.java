@@ -0,0 +1,117 @@
+package com.example.turnover.benchmark;
+
+import com.example.turnover.model.dto.TurnoverKpi;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.KpiCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of building a turnover KPI report: the typed single-pass {@link KpiCalculator}
+ * against the previous LinkedHashMap-based construction (kept here as the baseline).
+ *
+ * Compare gc.alloc.rate.norm (bytes/op) between the two benchmarks:
+ *   ./gradlew jmh -Pjmh.includes=KpiReportBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class KpiReportBenchmark {
+
+    private static final int KPI_TARGET_HOURS = 36;
+
+    private final KpiCalculator calculator = new KpiCalculator();
+    private Turnover turnover;
+    private List<WorkOrder> orders;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        LocalDateTime moveOut = now.minusHours(60);
+
+        turnover = new Turnover();
+        turnover.setPropertyId("PROP-BENCH");
+        turnover.setStartedAt(moveOut);
+        turnover.setStatus(TurnoverStatus.COMPLETED);
+        turnover.setCompletedAt(moveOut.plusHours(60));
+
+        orders = List.of(
+                workOrder(WorkOrderType.INSPECTION, moveOut, moveOut.plusHours(6)),
+                workOrder(WorkOrderType.CLEANING, moveOut.plusHours(6), moveOut.plusHours(16)),
+                workOrder(WorkOrderType.REPAIR, moveOut.plusHours(16), moveOut.plusHours(60)));
+    }
+
+    @Benchmark
+    public TurnoverKpi typedRecords() {
+        return calculator.turnoverKpi(turnover, orders, now);
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyMaps() {
+        LocalDateTime reference = turnover.getCompletedAt() != null ? turnover.getCompletedAt() : now;
+        long cycleTimeHours = Duration.between(turnover.getStartedAt(), reference).toHours();
+
+        List<Map<String, Object>> workOrderKpis = orders.stream().map(this::legacyWorkOrderKpi).toList();
+
+        Map<String, Object> bottleneck = workOrderKpis.stream()
+                .filter(m -> (long) m.get("overrunHours") > 0)
+                .max(Comparator.comparingLong(m -> (long) m.get("overrunHours")))
+                .orElse(null);
+
+        long completedOnTime = workOrderKpis.stream().filter(m -> (boolean) m.get("onTime")).count();
+        // as in the replaced controller, which compared the enum against its name (never equal)
+        long totalCompleted = workOrderKpis.stream()
+                .filter(m -> WorkOrderStatus.COMPLETED.name().equals(m.get("status"))).count();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("propertyId", turnover.getPropertyId());
+        result.put("turnoverId", turnover.getId());
+        result.put("status", turnover.getStatus());
+        result.put("cycleTimeHours", cycleTimeHours);
+        result.put("kpiTargetHours", KPI_TARGET_HOURS);
+        result.put("slaBreached", cycleTimeHours > KPI_TARGET_HOURS);
+        result.put("varianceHours", cycleTimeHours - KPI_TARGET_HOURS);
+        result.put("workOrdersOnTimePct", totalCompleted > 0 ? (completedOnTime * 100 / totalCompleted) : null);
+        result.put("bottleneck", bottleneck);
+        result.put("workOrders", workOrderKpis);
+        return result;
+    }
+
+    private Map<String, Object> legacyWorkOrderKpi(WorkOrder wo) {
+        LocalDateTime ref = wo.getCompletedAt() != null ? wo.getCompletedAt() : now;
+        long actualHours = Duration.between(wo.getStartedAt(), ref).toHours();
+        long slaHours = wo.getType().getSlaHours();
+        long overrunHours = Math.max(0, actualHours - slaHours);
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("type", wo.getType());
+        m.put("status", wo.getStatus());
+        m.put("slaHours", slaHours);
+        m.put("actualHours", actualHours);
+        m.put("overrunHours", overrunHours);
+        m.put("onTime", wo.getStatus() == WorkOrderStatus.COMPLETED && overrunHours == 0);
+        m.put("slaDeadline", wo.getSlaDeadline());
+        m.put("completedAt", wo.getCompletedAt());
+        return m;
+    }
+
+    private static WorkOrder workOrder(WorkOrderType type, LocalDateTime start, LocalDateTime end) {
+        WorkOrder wo = new WorkOrder();
+        wo.setId(UUID.randomUUID());
+        wo.setType(type);
+        wo.setStatus(WorkOrderStatus.COMPLETED);
+        wo.setStartedAt(start);
+        wo.setSlaDeadline(start.plusHours(type.getSlaHours()));
+        wo.setCompletedAt(end);
+        return wo;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.turnover.benchmark;
+
+import com.example.turnover.controller.MetricsController;
+import com.example.turnover.model.dto.KpiSummary;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.readmodel.TurnoverKpiProjection;
+import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.service.KpiSummaryAggregator;
+import com.example.turnover.service.TurnoverService;
+import com.example.turnover.service.WorkOrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Baseline for the turnover pipeline and the KPI endpoints against H2 with a realistic amount of
+ * history (1k / 100k / 1M completed turnovers). Runs with synchronous event dispatch, so each
+ * operation includes its downstream consumers.
+ *
+ *   ./gradlew jmh -Pjmh.includes=TurnoverPipelineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TurnoverPipelineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int seededTurnovers;
+
+    private ConfigurableApplicationContext context;
+    private TurnoverService turnoverService;
+    private WorkOrderService workOrderService;
+    private WorkOrderRepository workOrderRepository;
+    private MetricsController metricsController;
+    private UUID[] seededIds;
+    private final AtomicLong propertySequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("pipeline-bench-" + seededTurnovers);
+        seededIds = BenchmarkApp.seedCompletedTurnovers(context.getBean(JdbcTemplate.class), seededTurnovers);
+        context.getBean(KpiSummaryAggregator.class).rebuild();
+        context.getBean(TurnoverKpiProjection.class).rebuild();
+
+        turnoverService = context.getBean(TurnoverService.class);
+        workOrderService = context.getBean(WorkOrderService.class);
+        workOrderRepository = context.getBean(WorkOrderRepository.class);
+        metricsController = context.getBean(MetricsController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** Move-out of a fresh property: turnover insert + tenant.moved-out consumer creating INSPECTION */
+    @Benchmark
+    public Turnover handleMoveOut() {
+        return turnoverService.handleMoveOut(nextPropertyId());
+    }
+
+    /** Move-out → complete INSPECTION → fan-out → complete CLEANING + REPAIR → ready-for-move-in */
+    @Benchmark
+    public UUID fullTurnoverChain() {
+        Turnover turnover = turnoverService.handleMoveOut(nextPropertyId());
+        UUID turnoverId = turnover.getId();
+
+        workOrderService.complete(find(turnoverId, WorkOrderType.INSPECTION));
+        List<WorkOrder> unlocked = workOrderRepository.findByTurnoverId(turnoverId);
+        for (WorkOrder wo : unlocked) {
+            if (wo.getType() != WorkOrderType.INSPECTION) {
+                workOrderService.complete(wo.getId());
+            }
+        }
+        return turnoverId;
+    }
+
+    /** Report of a random completed turnover — mostly a cache miss: read model lookup plus serialization */
+    @Benchmark
+    public ResponseEntity<?> kpi() {
+        return metricsController.kpi(randomSeededId());
+    }
+
+    /** The same completed turnover fetched twice: the second fetch is served from the completed-KPI cache */
+    @Benchmark
+    public ResponseEntity<?> kpiRepeated() {
+        UUID id = randomSeededId();
+        metricsController.kpi(id);
+        return metricsController.kpi(id);
+    }
+
+    @Benchmark
+    public KpiSummary summary() {
+        return metricsController.summary(null);
+    }
+
+    private UUID find(UUID turnoverId, WorkOrderType type) {
+        for (WorkOrder wo : workOrderRepository.findByTurnoverId(turnoverId)) {
+            if (wo.getType() == type) return wo.getId();
+        }
+        throw new IllegalStateException(type + " not created for turnover " + turnoverId);
+    }
+
+    private UUID randomSeededId() {
+        return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+    }
+
+    private String nextPropertyId() {
+        return "PROP-BENCH-" + propertySequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.turnover.changes;
+
+import com.example.turnover.model.dto.TurnoverChange;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.repository.TurnoverRepository;
+import com.example.turnover.service.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes committed turnover and work order changes to Server-Sent Events subscribers, so screens
+ * watching a property or turnover need not poll /workorders and /kpi.
+ *
+ * Producers (work order created / completed, turnover completed) hand a change over inside their
+ * transaction; it is fanned out once that transaction commits, never for a rolled-back one. With no
+ * subscribers a change costs nothing.
+ *
+ * Every subscriber has its own bounded buffer (turnover.changes.buffer-size) drained by a sender of
+ * its own, so a slow client never holds up the producer or other subscribers. A subscriber whose buffer
+ * is full has fallen behind: it is disconnected rather than silently skipped, and re-syncs by
+ * reconnecting (GET /kpi once, then the stream). A heartbeat comment every turnover.changes.heartbeat-ms
+ * keeps idle connections open through proxies and detects clients that went away.
+ */
+@Component
+public class TurnoverChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TurnoverChangeFeed.class);
+
+    private static final int PROPERTY_CACHE_SIZE = 10_000;
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final TurnoverRepository turnoverRepository;
+    private final int bufferSize;
+    private final TaskExecutor senders;
+    private final CopyOnWriteArraySet<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /** turnoverId → propertyId; a turnover never changes property. Guarded by itself */
+    private final Map<UUID, String> propertyByTurnover = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+            return size() > PROPERTY_CACHE_SIZE;
+        }
+    };
+
+    public TurnoverChangeFeed(TurnoverRepository turnoverRepository,
+                              @Value("${turnover.changes.buffer-size:256}") int bufferSize) {
+        this.turnoverRepository = turnoverRepository;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.senders = Runtime.version().feature() >= 21
+                ? new VirtualThreadTaskExecutor("turnover-changes-")
+                : new SimpleAsyncTaskExecutor("turnover-changes-");
+    }
+
+    /** Subscribers, changes fanned out, deliveries written and subscribers disconnected as too slow */
+    public record Stats(int subscribers, long published, long delivered, long droppedSubscribers, int bufferSize) {
+    }
+
+    private record Delivery(long id, TurnoverChange change) {
+    }
+
+    /** Stream of changes for one property, one turnover, or everything when both are null */
+    public SseEmitter subscribe(String propertyId, UUID turnoverId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, propertyId, turnoverId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    public void workOrderCreated(WorkOrder wo) {
+        if (subscribers.isEmpty()) return;
+        workOrderCreated(wo, propertyOf(wo.getTurnoverId()));
+    }
+
+    /** For producers that already know the property (bulk move-out) */
+    public void workOrderCreated(WorkOrder wo, String propertyId) {
+        if (subscribers.isEmpty()) return;
+        publish(TurnoverChange.workOrderCreated(propertyId, wo.getTurnoverId(), wo.getId(),
+                wo.getType(), wo.getSlaDeadline(), wo.getStartedAt()));
+    }
+
+    public void workOrderCompleted(WorkOrder wo) {
+        if (subscribers.isEmpty()) return;
+        publish(TurnoverChange.workOrderCompleted(propertyOf(wo.getTurnoverId()), wo.getTurnoverId(), wo.getId(),
+                wo.getType(), wo.getCompletedAt()));
+    }
+
+    public void turnoverCompleted(Turnover turnover, LocalDateTime completedAt) {
+        if (subscribers.isEmpty()) return;
+        long cycleHours = Duration.between(turnover.getStartedAt(), completedAt).toHours();
+        publish(TurnoverChange.turnoverCompleted(turnover.getPropertyId(), turnover.getId(), cycleHours, completedAt));
+    }
+
+    private void publish(TurnoverChange change) {
+        TransactionCallbacks.afterCommit(() -> {
+            published.increment();
+            Delivery delivery = new Delivery(sequence.incrementAndGet(), change);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.wants(change)) {
+                    subscriber.offer(delivery);
+                }
+            }
+        });
+    }
+
+    /** Resolved inside the producer's transaction; cached, so a turnover costs at most one lookup */
+    private String propertyOf(UUID turnoverId) {
+        synchronized (propertyByTurnover) {
+            String cached = propertyByTurnover.get(turnoverId);
+            if (cached != null) return cached;
+        }
+        String propertyId = turnoverRepository.findPropertyIdById(turnoverId).orElse(null);
+        if (propertyId != null) {
+            synchronized (propertyByTurnover) {
+                propertyByTurnover.put(turnoverId, propertyId);
+            }
+        }
+        return propertyId;
+    }
+
+    @Scheduled(fixedDelayString = "${turnover.changes.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(subscribers.size(), published.sum(), delivered.sum(), dropped.sum(), bufferSize);
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final String propertyId;
+        final UUID turnoverId;
+        final ArrayBlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, String propertyId, UUID turnoverId) {
+            this.emitter = emitter;
+            this.propertyId = propertyId;
+            this.turnoverId = turnoverId;
+        }
+
+        boolean wants(TurnoverChange change) {
+            return (turnoverId == null || turnoverId.equals(change.turnoverId()))
+                    && (propertyId == null || propertyId.equals(change.propertyId()));
+        }
+
+        void offer(Object item) {
+            if (closed) return;
+            if (!buffer.offer(item)) {
+                dropped.increment();
+                log.warn("[CHANGES] subscriber (property={} turnover={}) fell {} changes behind — disconnected",
+                        propertyId, turnoverId, bufferSize);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /** One sender per subscriber at a time; re-checks the buffer so an offer racing the exit is not stranded */
+        void drain() {
+            do {
+                try {
+                    Object item;
+                    while (!closed && (item = buffer.poll()) != null) {
+                        send(item);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                } finally {
+                    draining.set(false);
+                }
+            } while (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            Delivery delivery = (Delivery) item;
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(delivery.id()))
+                    .name(delivery.change().type().name())
+                    .data(delivery.change(), MediaType.APPLICATION_JSON));
+            delivered.increment();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
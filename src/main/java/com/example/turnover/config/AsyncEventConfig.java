@@ -0,0 +1,40 @@
+package com.example.turnover.config;
+
+import com.example.turnover.events.PartitionedEventDispatcher;
+import com.example.turnover.events.PartitionedEventMulticaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Opt-in asynchronous event dispatch (turnover.events.async.enabled=true).
+ *
+ * Replaces Spring's default multicaster so pipeline listeners run on per-partition lanes instead of
+ * the HTTP request thread — POST .../complete returns as soon as the work order is saved.
+ * Lane consumers are virtual threads on JDK 21+, platform threads otherwise.
+ */
+@Configuration
+@ConditionalOnProperty(name = "turnover.events.async.enabled", havingValue = "true")
+public class AsyncEventConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    PartitionedEventDispatcher partitionedEventDispatcher(
+            @Value("${turnover.events.async.lanes:16}") int lanes,
+            @Value("${turnover.events.async.queue-capacity:10000}") int queueCapacity) {
+        TaskExecutor executor = Runtime.version().feature() >= 21
+                ? new VirtualThreadTaskExecutor("turnover-events-")
+                : new SimpleAsyncTaskExecutor("turnover-events-");
+        return new PartitionedEventDispatcher(lanes, queueCapacity, executor);
+    }
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    ApplicationEventMulticaster applicationEventMulticaster(PartitionedEventDispatcher dispatcher) {
+        return new PartitionedEventMulticaster(dispatcher);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.turnover.config;
+
+import com.example.turnover.eventlog.EventLog;
+import com.example.turnover.eventlog.EventLogRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Embedded partitioned event log (turnover.eventlog.enabled=true): every pipeline event is also
+ * appended to memory-mapped segment files under turnover.eventlog.dir, for replay and benchmarking.
+ */
+@Configuration
+@ConditionalOnProperty(name = "turnover.eventlog.enabled", havingValue = "true")
+public class EventLogConfig {
+
+    @Bean(destroyMethod = "close")
+    EventLog eventLog(@Value("${turnover.eventlog.dir:build/eventlog}") Path dir,
+                      @Value("${turnover.eventlog.partitions:8}") int partitions,
+                      @Value("${turnover.eventlog.segment-bytes:16777216}") int segmentBytes) {
+        return new EventLog(dir, partitions, segmentBytes);
+    }
+
+    @Bean
+    EventLogRecorder eventLogRecorder(EventLog eventLog) {
+        return new EventLogRecorder(eventLog);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.turnover.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables @Scheduled background jobs (outbox relay) */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
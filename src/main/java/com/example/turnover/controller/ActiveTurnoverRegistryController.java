@@ -0,0 +1,30 @@
+package com.example.turnover.controller;
+
+import com.example.turnover.service.ActiveTurnoverRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Hit rate and drift of the in-memory active-turnover index, plus an on-demand consistency check */
+@RestController
+@RequestMapping("/turnovers/registry")
+public class ActiveTurnoverRegistryController {
+
+    private final ActiveTurnoverRegistry registry;
+
+    public ActiveTurnoverRegistryController(ActiveTurnoverRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping
+    public ActiveTurnoverRegistry.Stats stats() {
+        return registry.stats();
+    }
+
+    /** Compares the index with the database and corrects every mismatch it finds */
+    @PostMapping("/reconcile")
+    public ActiveTurnoverRegistry.Reconciliation reconcile() {
+        return registry.reconcile();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.turnover.controller;
+
+import com.example.turnover.model.dto.MoveOutResult;
+import com.example.turnover.service.BulkMoveOutService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/turnovers")
+public class BulkMoveOutController {
+
+    private final BulkMoveOutService bulkMoveOutService;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+
+    public BulkMoveOutController(BulkMoveOutService bulkMoveOutService,
+                                 JsonMapper jsonMapper,
+                                 @Value("${turnover.moveouts.chunk-size:1000}") int chunkSize) {
+        this.bulkMoveOutService = bulkMoveOutService;
+        this.jsonMapper = jsonMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Bulk move-outs as NDJSON, one {"propertyId":..,"movedOutAt":..} per line. The body is read
+     * turnover.moveouts.chunk-size lines at a time and each chunk is committed on its own, so memory
+     * stays flat however large the upload; one {@link MoveOutResult} line per input line is streamed
+     * back as each chunk commits. A failure part-way leaves the chunks already reported committed.
+     */
+    @PostMapping(value = "/moveouts", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void moveOuts(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        OutputStream out = response.getOutputStream();
+
+        List<String> chunk = new ArrayList<>(chunkSize);
+        long firstLine = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                write(bulkMoveOutService.ingest(chunk, firstLine), out);
+                firstLine += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(bulkMoveOutService.ingest(chunk, firstLine), out);
+        }
+    }
+
+    private void write(List<MoveOutResult> results, OutputStream out) throws IOException {
+        for (MoveOutResult result : results) {
+            out.write(jsonMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.turnover.controller;
+
+import com.example.turnover.events.PartitionedEventDispatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Queue depth, throughput and queue-wait stats of the async event dispatcher (only when enabled) */
+@RestController
+@RequestMapping("/turnovers/events")
+@ConditionalOnProperty(name = "turnover.events.async.enabled", havingValue = "true")
+public class EventDispatchController {
+
+    private final PartitionedEventDispatcher dispatcher;
+
+    public EventDispatchController(PartitionedEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @GetMapping("/dispatch")
+    public PartitionedEventDispatcher.Stats dispatch() {
+        return dispatcher.stats();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.turnover.controller;
+
+import com.example.turnover.forecast.CycleTimeForecaster;
+import com.example.turnover.forecast.ForecastRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/turnovers")
+public class ForecastController {
+
+    private final CycleTimeForecaster forecaster;
+
+    public ForecastController(CycleTimeForecaster forecaster) {
+        this.forecaster = forecaster;
+    }
+
+    /**
+     * Monte Carlo cycle-time forecast from historical work order durations, e.g. "what is the probability
+     * the portfolio hits the 36h KPI next month if REPAIR SLA compliance drops 10 points?":
+     *   { "slaComplianceDelta": { "REPAIR": -10 } }
+     * See {@link ForecastRequest} for all (optional) fields.
+     */
+    @PostMapping("/forecast")
+    public ResponseEntity<?> forecast(@RequestBody(required = false) ForecastRequest request) {
+        ForecastRequest effective = request != null ? request : new ForecastRequest(null, null, null, null, null, null);
+        try {
+            return ResponseEntity.ok(forecaster.forecast(effective));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
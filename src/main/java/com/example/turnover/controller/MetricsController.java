@@ -1,17 +1,26 @@
 package com.example.turnover.controller;
 
+import com.example.turnover.model.dto.KpiSummary;
+import com.example.turnover.model.dto.TurnoverKpi;
 import com.example.turnover.model.entity.Turnover;
 import com.example.turnover.model.entity.WorkOrder;
 import com.example.turnover.model.enums.TurnoverStatus;
-import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.readmodel.CompletedKpiCache;
+import com.example.turnover.readmodel.TurnoverKpiProjection;
+import com.example.turnover.repository.KpiSummaryView;
 import com.example.turnover.repository.TurnoverRepository;
 import com.example.turnover.repository.WorkOrderRepository;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import com.example.turnover.service.CycleTimeHistograms;
+import com.example.turnover.service.KpiCalculator;
+import com.example.turnover.service.KpiSummaryAggregator;
+import com.example.turnover.service.PipelineMetrics;
+import com.example.turnover.service.WorstOffendersService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.json.JsonMapper;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -19,15 +28,41 @@ import java.util.*;
 @RequestMapping("/turnovers")
 public class MetricsController {
 
-    private static final int KPI_TARGET_HOURS = 36;
+    private static final int KPI_TARGET_HOURS = KpiSummaryAggregator.KPI_TARGET_HOURS;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_TOP_K = 100;
 
     private final TurnoverRepository turnoverRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final KpiSummaryAggregator summaryAggregator;
+    private final CycleTimeHistograms histograms;
+    private final KpiCalculator kpiCalculator;
+    private final PipelineMetrics metrics;
+    private final TurnoverKpiProjection kpiProjection;
+    private final CompletedKpiCache completedKpis;
+    private final JsonMapper jsonMapper;
+    private final WorstOffendersService worstOffenders;
 
     public MetricsController(TurnoverRepository turnoverRepository,
-                             WorkOrderRepository workOrderRepository) {
+                             WorkOrderRepository workOrderRepository,
+                             KpiSummaryAggregator summaryAggregator,
+                             CycleTimeHistograms histograms,
+                             KpiCalculator kpiCalculator,
+                             PipelineMetrics metrics,
+                             TurnoverKpiProjection kpiProjection,
+                             CompletedKpiCache completedKpis,
+                             JsonMapper jsonMapper,
+                             WorstOffendersService worstOffenders) {
         this.turnoverRepository = turnoverRepository;
         this.workOrderRepository = workOrderRepository;
+        this.summaryAggregator = summaryAggregator;
+        this.histograms = histograms;
+        this.kpiCalculator = kpiCalculator;
+        this.metrics = metrics;
+        this.kpiProjection = kpiProjection;
+        this.completedKpis = completedKpis;
+        this.jsonMapper = jsonMapper;
+        this.worstOffenders = worstOffenders;
     }
 
     /**
@@ -38,89 +73,168 @@ public class MetricsController {
      *  - slaBreached       : true if cycle time exceeds the 36h KPI target
      *  - bottleneck        : the work order type that caused the most delay relative to its SLA
      *  - workOrders        : per-step SLA compliance breakdown
+     *
+     * Served from the {@link TurnoverKpiProjection} row; a turnover not projected yet (its event still
+     * in flight) is computed from the turnover and its work orders.
+     *
+     * A completed turnover's report never changes: it carries a strong ETag (id and final version) and
+     * its serialized bytes are kept in {@link CompletedKpiCache}, so a repeat fetch runs no query and no
+     * serialization, and one with a matching If-None-Match gets 304 Not Modified without a body.
+     * Reports of turnovers in progress change with the clock and carry no ETag.
      */
     @GetMapping("/{id}/kpi")
-    public Map<String, Object> kpi(@PathVariable UUID id) {
-        Turnover turnover = turnoverRepository.findById(id).orElseThrow();
-        List<WorkOrder> orders = workOrderRepository.findByTurnoverId(id);
-
-        LocalDateTime reference = turnover.getCompletedAt() != null
-                ? turnover.getCompletedAt()
-                : LocalDateTime.now();
+    public ResponseEntity<?> kpi(@PathVariable UUID id) {
+        return metrics.time("kpi.turnover", null, () -> {
+            CompletedKpiCache.Entry cached = completedKpis.get(id);
+            if (cached != null) {
+                return completedKpi(cached);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            TurnoverKpiProjection.Projected projected = kpiProjection.find(id, now).orElseGet(() -> {
+                Turnover turnover = turnoverRepository.findById(id).orElseThrow();
+                List<WorkOrder> orders = workOrderRepository.findByTurnoverId(id);
+                return new TurnoverKpiProjection.Projected(kpiCalculator.turnoverKpi(turnover, orders, now),
+                        turnover.getVersion());
+            });
+            if (projected.kpi().status() != TurnoverStatus.COMPLETED) {
+                return ResponseEntity.ok(projected.kpi());
+            }
+
+            CompletedKpiCache.Entry entry = new CompletedKpiCache.Entry(
+                    jsonMapper.writeValueAsBytes(projected.kpi()),
+                    CompletedKpiCache.etag(id, projected.turnoverVersion()));
+            completedKpis.put(id, entry);
+            return completedKpi(entry);
+        });
+    }
 
-        long cycleTimeHours = Duration.between(turnover.getStartedAt(), reference).toHours();
-        boolean slaBreached = cycleTimeHours > KPI_TARGET_HOURS;
+    /** The ETag lets Spring answer a matching If-None-Match with 304 and skip writing the body */
+    private static ResponseEntity<byte[]> completedKpi(CompletedKpiCache.Entry entry) {
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.json());
+    }
 
-        List<Map<String, Object>> workOrderKpis = orders.stream()
-                .map(wo -> buildWorkOrderKpi(wo))
-                .toList();
+    /** Recreates the per-turnover KPI projection from the turnover and work_order tables */
+    @PostMapping("/kpi/projection/rebuild")
+    public TurnoverKpiProjection.Rebuild rebuildKpiProjection() {
+        return kpiProjection.rebuild();
+    }
 
-        Map<String, Object> bottleneck = workOrderKpis.stream()
-                .filter(m -> (long) m.get("overrunHours") > 0)
-                .max(Comparator.comparingLong(m -> (long) m.get("overrunHours")))
-                .orElse(null);
+    /**
+     * KPI reports for many turnovers in one call — for dashboards that would otherwise issue one
+     * GET /turnovers/{id}/kpi per turnover.
+     *
+     * Always two queries regardless of batch size: one IN-list for the turnovers and one for all
+     * of their work orders. Unknown ids are skipped; results follow the order of the request.
+     */
+    @PostMapping("/kpi/batch")
+    public ResponseEntity<?> kpiBatch(@RequestBody List<UUID> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "At most " + MAX_BATCH_SIZE + " ids per batch"));
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        Map<UUID, Turnover> turnovers = new HashMap<>();
+        for (Turnover t : turnoverRepository.findAllById(distinctIds)) {
+            turnovers.put(t.getId(), t);
+        }
+
+        Map<UUID, List<WorkOrder>> ordersByTurnover = new HashMap<>();
+        for (WorkOrder wo : workOrderRepository.findByTurnoverIdIn(turnovers.keySet())) {
+            ordersByTurnover.computeIfAbsent(wo.getTurnoverId(), k -> new ArrayList<>()).add(wo);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TurnoverKpi> result = new ArrayList<>(turnovers.size());
+        for (UUID id : distinctIds) {
+            Turnover turnover = turnovers.get(id);
+            if (turnover != null) {
+                result.add(kpiCalculator.turnoverKpi(turnover, ordersByTurnover.getOrDefault(id, List.of()), now));
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
 
-        long completedOnTime = workOrderKpis.stream().filter(m -> (boolean) m.get("onTime")).count();
-        long totalCompleted = workOrderKpis.stream()
-                .filter(m -> WorkOrderStatus.COMPLETED.name().equals(m.get("status"))).count();
+    /**
+     * Summary KPI across all turnovers — useful for showing trend/evolution to the client.
+     *
+     * With the default 36h target this is served from the running totals in {@link KpiSummaryAggregator}.
+     * A different ?targetHours= (what-if threshold) is answered by a single aggregate query in the database.
+     */
+    @GetMapping("/kpi/summary")
+    public KpiSummary summary(@RequestParam(required = false) Integer targetHours) {
+        return metrics.time("kpi.summary", null, () -> summarize(targetHours));
+    }
 
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("propertyId", turnover.getPropertyId());
-        result.put("turnoverId", turnover.getId());
-        result.put("status", turnover.getStatus());
-        result.put("cycleTimeHours", cycleTimeHours);
-        result.put("kpiTargetHours", KPI_TARGET_HOURS);
-        result.put("slaBreached", slaBreached);
-        result.put("varianceHours", cycleTimeHours - KPI_TARGET_HOURS);
-        result.put("workOrdersOnTimePct", totalCompleted > 0 ? (completedOnTime * 100 / totalCompleted) : null);
-        result.put("bottleneck", bottleneck);
-        result.put("workOrders", workOrderKpis);
-        return result;
+    private KpiSummary summarize(Integer targetHours) {
+        long total, completed, cycleHoursSum, withinTarget;
+        int target = targetHours != null ? targetHours : KPI_TARGET_HOURS;
+        if (target == KPI_TARGET_HOURS) {
+            KpiSummaryAggregator.Snapshot s = summaryAggregator.snapshot();
+            total = s.totalTurnovers();
+            completed = s.completedTurnovers();
+            cycleHoursSum = s.cycleHoursSum();
+            withinTarget = s.withinKpiCount();
+        } else {
+            KpiSummaryView view = turnoverRepository.summarize(target);
+            total = view.getTotalTurnovers();
+            completed = view.getCompletedTurnovers();
+            cycleHoursSum = view.getCycleHoursSum();
+            withinTarget = view.getWithinTargetCount();
+        }
+        return KpiSummary.of(total, completed, cycleHoursSum, withinTarget, target);
     }
 
-    /** Summary KPI across all turnovers — useful for showing trend/evolution to the client */
-    @GetMapping("/kpi/summary")
-    public Map<String, Object> summary() {
-        List<Turnover> all = turnoverRepository.findAll();
-        List<Turnover> completed = all.stream()
-                .filter(t -> t.getStatus() == TurnoverStatus.COMPLETED && t.getCompletedAt() != null)
-                .toList();
+    /**
+     * The k slowest turnovers started in [from, to), longest cycle time first (elapsed so far for those
+     * in progress). One streaming pass with O(k) memory — see {@link WorstOffendersService}.
+     */
+    @GetMapping("/kpi/slowest")
+    public ResponseEntity<?> slowest(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                     @RequestParam(defaultValue = "10") int k) {
+        String error = validateTopK(from, to, k);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(metrics.time("kpi.slowest", null,
+                () -> worstOffenders.slowestTurnovers(from, to, k, LocalDateTime.now())));
+    }
 
-        OptionalDouble avgCycle = completed.stream()
-                .mapToLong(t -> Duration.between(t.getStartedAt(), t.getCompletedAt()).toHours())
-                .average();
+    /** Per work order type, the k work orders started in [from, to) furthest past their SLA, worst first */
+    @GetMapping("/kpi/overruns")
+    public ResponseEntity<?> overruns(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                      @RequestParam(defaultValue = "10") int k) {
+        String error = validateTopK(from, to, k);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(metrics.time("kpi.overruns", null,
+                () -> worstOffenders.worstOverruns(from, to, k, LocalDateTime.now())));
+    }
 
-        long withinKpi = completed.stream()
-                .filter(t -> Duration.between(t.getStartedAt(), t.getCompletedAt()).toHours() <= KPI_TARGET_HOURS)
-                .count();
+    private static String validateTopK(LocalDateTime from, LocalDateTime to, int k) {
+        if (k < 1 || k > MAX_TOP_K) {
+            return "k must be between 1 and " + MAX_TOP_K;
+        }
+        if (!from.isBefore(to)) {
+            return "from must be before to";
+        }
+        return null;
+    }
 
+    /**
+     * Cycle-time percentiles (p50/p90/p99/max, in hours) for turnovers and for each work order type,
+     * recorded live since application start. The average in /kpi/summary hides the long tail; this does not.
+     */
+    @GetMapping("/kpi/percentiles")
+    public Map<String, Object> percentiles() {
         Map<String, Object> result = new LinkedHashMap<>();
-        result.put("totalTurnovers", all.size());
-        result.put("completedTurnovers", completed.size());
-        result.put("inProgressTurnovers", all.size() - completed.size());
-        result.put("avgCycleTimeHours", avgCycle.isPresent() ? Math.round(avgCycle.getAsDouble()) : null);
-        result.put("kpiTargetHours", KPI_TARGET_HOURS);
-        result.put("withinKpiCount", withinKpi);
-        result.put("kpiCompliancePct", completed.isEmpty() ? null : (withinKpi * 100 / completed.size()));
+        result.put("turnoverCycleTime", histograms.turnoverSummary());
+        result.put("workOrders", histograms.workOrderSummaries());
         return result;
     }
-
-    private Map<String, Object> buildWorkOrderKpi(WorkOrder wo) {
-        LocalDateTime ref = wo.getCompletedAt() != null ? wo.getCompletedAt() : LocalDateTime.now();
-        long actualHours = Duration.between(wo.getStartedAt(), ref).toHours();
-        long slaHours = wo.getType().getSlaHours();
-        long overrunHours = Math.max(0, actualHours - slaHours);
-        boolean onTime = wo.getStatus() == WorkOrderStatus.COMPLETED && overrunHours == 0;
-
-        Map<String, Object> m = new LinkedHashMap<>();
-        m.put("type", wo.getType());
-        m.put("status", wo.getStatus());
-        m.put("slaHours", slaHours);
-        m.put("actualHours", actualHours);
-        m.put("overrunHours", overrunHours);
-        m.put("onTime", onTime);
-        m.put("slaDeadline", wo.getSlaDeadline());
-        m.put("completedAt", wo.getCompletedAt());
-        return m;
-    }
 }
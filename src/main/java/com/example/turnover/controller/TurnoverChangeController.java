@@ -0,0 +1,40 @@
+package com.example.turnover.controller;
+
+import com.example.turnover.changes.TurnoverChangeFeed;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/** Server-Sent Events stream of committed work order and turnover changes, instead of polling */
+@RestController
+@RequestMapping("/turnovers/changes")
+public class TurnoverChangeController {
+
+    private final TurnoverChangeFeed changeFeed;
+
+    public TurnoverChangeController(TurnoverChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * One SSE event per change, named after its type (WORK_ORDER_CREATED, WORK_ORDER_COMPLETED,
+     * TURNOVER_COMPLETED) with the change as JSON data. Narrow it with ?propertyId= and/or ?turnoverId=;
+     * without either every change is streamed. A client that falls behind is disconnected and should
+     * reconnect.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestParam(required = false) String propertyId,
+                              @RequestParam(required = false) UUID turnoverId) {
+        return changeFeed.subscribe(propertyId, turnoverId);
+    }
+
+    @GetMapping("/stats")
+    public TurnoverChangeFeed.Stats stats() {
+        return changeFeed.stats();
+    }
+}
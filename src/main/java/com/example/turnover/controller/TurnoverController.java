@@ -1,17 +1,26 @@
 package com.example.turnover.controller;
 
+import com.example.turnover.model.dto.WorkOrderCompletion;
 import com.example.turnover.model.entity.Turnover;
 import com.example.turnover.model.entity.WorkOrder;
 import com.example.turnover.model.enums.TurnoverStatus;
-import com.example.turnover.model.enums.WorkOrderStatus;
-import com.example.turnover.model.enums.WorkOrderType;
-import com.example.turnover.repository.TurnoverRepository;
 import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.service.KpiSummaryAggregator;
+import com.example.turnover.service.TurnoverListingService;
 import com.example.turnover.service.TurnoverService;
+import com.example.turnover.service.WorkOrderBatchService;
 import com.example.turnover.service.WorkOrderService;
+import com.example.turnover.simulation.SimulationConfig;
+import com.example.turnover.simulation.SimulationReport;
+import com.example.turnover.simulation.TurnoverSimulator;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -30,24 +39,86 @@ import java.util.UUID;
  * Shortcut:
  *   POST /turnovers/simulate?scenario=bottleneck   → pre-seeded historical data showing the problem
  *   POST /turnovers/simulate?scenario=optimized    → pre-seeded data showing the improvement
+ *   POST /turnovers/simulations                     → simulated history / what-if capacity runs
  */
 @RestController
 @RequestMapping("/turnovers")
 public class TurnoverController {
 
+    /** Cycle time of the bottleneck scenario, the baseline the optimized one is compared against */
+    private static final long BOTTLENECK_CYCLE_HOURS = 60;
+
+    private static final int MAX_COMPLETION_BATCH = 1000;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final byte[] ITEMS_START = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+
     private final TurnoverService turnoverService;
     private final WorkOrderService workOrderService;
-    private final TurnoverRepository turnoverRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderBatchService workOrderBatchService;
+    private final TurnoverSimulator simulator;
+    private final TurnoverListingService listingService;
+    private final JsonMapper jsonMapper;
 
     public TurnoverController(TurnoverService turnoverService,
                               WorkOrderService workOrderService,
-                              TurnoverRepository turnoverRepository,
-                              WorkOrderRepository workOrderRepository) {
+                              WorkOrderRepository workOrderRepository,
+                              WorkOrderBatchService workOrderBatchService,
+                              TurnoverSimulator simulator,
+                              TurnoverListingService listingService,
+                              JsonMapper jsonMapper) {
         this.turnoverService = turnoverService;
         this.workOrderService = workOrderService;
-        this.turnoverRepository = turnoverRepository;
         this.workOrderRepository = workOrderRepository;
+        this.workOrderBatchService = workOrderBatchService;
+        this.simulator = simulator;
+        this.listingService = listingService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Turnovers newest first, one page of at most limit rows: {"items": [...], "nextCursor": "..."}.
+     * Pass nextCursor back as ?after= for the following page; it is null on the last one. Filters:
+     * status, propertyPrefix, and from (inclusive) / to (exclusive) on startedAt.
+     *
+     * Rows are streamed to the response as the database returns them (see {@link TurnoverListingService}).
+     */
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(required = false) TurnoverStatus status,
+                                  @RequestParam(required = false) String propertyPrefix,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                  @RequestParam(required = false) String after,
+                                  @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from must be before to"));
+        }
+        TurnoverListingService.Cursor cursor;
+        try {
+            cursor = after != null ? TurnoverListingService.Cursor.decode(after) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        TurnoverListingService.Filter filter = new TurnoverListingService.Filter(status, propertyPrefix, from, to);
+        StreamingResponseBody body = out -> {
+            out.write(ITEMS_START);
+            boolean[] first = {true};
+            TurnoverListingService.Cursor next = listingService.page(filter, cursor, limit, row -> {
+                if (!first[0]) out.write(',');
+                first[0] = false;
+                out.write(jsonMapper.writeValueAsBytes(row));
+            });
+            out.write(NEXT_CURSOR);
+            out.write(jsonMapper.writeValueAsBytes(next != null ? next.encode() : null));
+            out.write('}');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /** Trigger a tenant move-out — starts the event-driven turnover pipeline */
@@ -72,9 +143,24 @@ public class TurnoverController {
     }
 
     /**
-     * Simulate a full scenario with pre-built historical data.
+     * Complete many work orders in one transaction — for vendor devices syncing completions made
+     * offline: [{"workOrderId": "...", "completedAt": "2026-10-01T14:30:00"}, ...]
+     */
+    @PostMapping("/workorders/complete")
+    public ResponseEntity<?> completeWorkOrders(@RequestBody List<WorkOrderCompletion> completions) {
+        if (completions.size() > MAX_COMPLETION_BATCH) {
+            return ResponseEntity.badRequest().body(Map.of("error", "At most " + MAX_COMPLETION_BATCH + " completions per batch"));
+        }
+        if (completions.stream().anyMatch(c -> c == null || c.workOrderId() == null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Every completion needs a workOrderId"));
+        }
+        return ResponseEntity.ok(workOrderBatchService.completeAll(completions));
+    }
+
+    /**
+     * Seed one backdated turnover of a demo scenario (fixed-duration simulator presets).
      *
-     * scenario=bottleneck : REPAIR runs 20h over SLA — typical "before" state
+     * scenario=bottleneck : sequential work orders, REPAIR runs 20h over SLA — typical "before" state
      * scenario=optimized  : CLEANING + REPAIR run in parallel, both within SLA — "after" state
      */
     @PostMapping("/simulate")
@@ -86,108 +172,57 @@ public class TurnoverController {
         };
     }
 
-    // -------------------------------------------------------------------------
-    // Simulation helpers — build backdated records to tell the KPI story
-    // -------------------------------------------------------------------------
-
     /**
-     * Before state: sequential work orders, REPAIR wildly exceeds SLA.
-     *
-     * Timeline (hours from move-out):
-     *   0h  → move-out
-     *   0h  → INSPECTION starts  (SLA: 4h)
-     *   6h  → INSPECTION done    (+2h over SLA — already a warning sign)
-     *   6h  → CLEANING starts    (SLA: 8h)  ← starts only after inspection (bottleneck)
-     *   16h → CLEANING done      (+2h over SLA)
-     *   16h → REPAIR starts      (SLA: 24h) ← starts only after cleaning (double bottleneck)
-     *   60h → REPAIR done        (+20h over SLA)
-     *   ─────────────────────────────────────────
-     *   Total cycle: 60h | KPI target: ≤36h | Variance: +24h
+     * Run a discrete-event simulation: Poisson move-outs, log-normal work durations and limited vendor
+     * crews per work order type (see {@link SimulationConfig} for the fields and their defaults).
+     * sink=STATS only reports, HISTORY bulk-loads the turnovers, PIPELINE drives the live services.
      */
-    private Map<String, Object> seedBottleneck() {
-        LocalDateTime moveOut = LocalDateTime.now().minusHours(60);
-
-        Turnover t = new Turnover();
-        t.setPropertyId("PROP-BOTTLENECK-" + System.currentTimeMillis());
-        t.setStartedAt(moveOut);
-        t.setStatus(TurnoverStatus.COMPLETED);
-        t.setCompletedAt(moveOut.plusHours(60));
-        turnoverRepository.save(t);
-
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.INSPECTION,
-                moveOut, moveOut.plusHours(6)));
+    @PostMapping("/simulations")
+    public ResponseEntity<?> simulation(@RequestBody SimulationConfig config) {
+        try {
+            return ResponseEntity.ok(simulator.run(config));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.CLEANING,
-                moveOut.plusHours(6), moveOut.plusHours(16)));
+    // -------------------------------------------------------------------------
+    // Scenario helpers — backdated records to tell the KPI story
+    // -------------------------------------------------------------------------
 
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.REPAIR,
-                moveOut.plusHours(16), moveOut.plusHours(60)));
+    /** Before state: INSPECTION → CLEANING → REPAIR in sequence, 60h cycle */
+    private Map<String, Object> seedBottleneck() {
+        String propertyId = "PROP-BOTTLENECK-" + System.currentTimeMillis();
+        SimulationReport report = simulator.run(
+                SimulationConfig.bottleneckScenario(propertyId, LocalDateTime.now().minusHours(60)));
+        long cycleHours = (long) report.avgCycleHours();
 
         return Map.of(
                 "scenario", "bottleneck",
-                "turnoverId", t.getId(),
-                "propertyId", t.getPropertyId(),
+                "turnoverId", report.sampleTurnoverIds().get(0),
+                "propertyId", propertyId,
                 "message", "Sequential process: REPAIR blocked until CLEANING finished. REPAIR ran 20h over SLA.",
-                "cycleTimeHours", 60,
-                "kpiTargetHours", 36,
-                "varianceHours", 24
+                "cycleTimeHours", cycleHours,
+                "kpiTargetHours", KpiSummaryAggregator.KPI_TARGET_HOURS,
+                "varianceHours", cycleHours - KpiSummaryAggregator.KPI_TARGET_HOURS
         );
     }
 
-    /**
-     * After state: INSPECTION gates CLEANING + REPAIR which then run in parallel.
-     *
-     * Timeline (hours from move-out):
-     *   0h  → move-out
-     *   0h  → INSPECTION starts  (SLA: 4h)
-     *   3h  → INSPECTION done    (within SLA ✓)
-     *   3h  → CLEANING starts    (SLA: 8h)  ← parallel
-     *   3h  → REPAIR starts      (SLA: 24h) ← parallel (event fan-out)
-     *   10h → CLEANING done      (within SLA ✓)
-     *   26h → REPAIR done        (within SLA ✓)
-     *   ─────────────────────────────────────────
-     *   Total cycle: 26h | KPI target: ≤36h | Savings: 34h vs bottleneck
-     */
+    /** After state: INSPECTION gates CLEANING + REPAIR, which then run in parallel, 26h cycle */
     private Map<String, Object> seedOptimized() {
-        LocalDateTime moveOut = LocalDateTime.now().minusHours(26);
-
-        Turnover t = new Turnover();
-        t.setPropertyId("PROP-OPTIMIZED-" + System.currentTimeMillis());
-        t.setStartedAt(moveOut);
-        t.setStatus(TurnoverStatus.COMPLETED);
-        t.setCompletedAt(moveOut.plusHours(26));
-        turnoverRepository.save(t);
-
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.INSPECTION,
-                moveOut, moveOut.plusHours(3)));
-
-        // CLEANING and REPAIR run in parallel after INSPECTION
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.CLEANING,
-                moveOut.plusHours(3), moveOut.plusHours(10)));
-
-        workOrderRepository.save(buildWo(t.getId(), WorkOrderType.REPAIR,
-                moveOut.plusHours(3), moveOut.plusHours(26)));
+        String propertyId = "PROP-OPTIMIZED-" + System.currentTimeMillis();
+        SimulationReport report = simulator.run(
+                SimulationConfig.optimizedScenario(propertyId, LocalDateTime.now().minusHours(26)));
+        long cycleHours = (long) report.avgCycleHours();
 
         return Map.of(
                 "scenario", "optimized",
-                "turnoverId", t.getId(),
-                "propertyId", t.getPropertyId(),
+                "turnoverId", report.sampleTurnoverIds().get(0),
+                "propertyId", propertyId,
                 "message", "Parallel CLEANING + REPAIR after INSPECTION. All work orders within SLA.",
-                "cycleTimeHours", 26,
-                "kpiTargetHours", 36,
-                "savedHours", 34
+                "cycleTimeHours", cycleHours,
+                "kpiTargetHours", KpiSummaryAggregator.KPI_TARGET_HOURS,
+                "savedHours", BOTTLENECK_CYCLE_HOURS - cycleHours
         );
     }
-
-    private WorkOrder buildWo(UUID turnoverId, WorkOrderType type,
-                               LocalDateTime start, LocalDateTime end) {
-        WorkOrder wo = new WorkOrder();
-        wo.setTurnoverId(turnoverId);
-        wo.setType(type);
-        wo.setStatus(WorkOrderStatus.COMPLETED);
-        wo.setStartedAt(start);
-        wo.setSlaDeadline(start.plusHours(type.getSlaHours()));
-        wo.setCompletedAt(end);
-        return wo;
-    }
 }
@@ -0,0 +1,49 @@
+package com.example.turnover.eventlog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Committed positions of one consumer group, persisted as "topic.partition=nextOffset" lines in
+ * {@code <root>/offsets/<group>.offsets}. Written to a temp file and atomically moved into place.
+ */
+final class ConsumerOffsets {
+
+    private final Path file;
+    private final Properties offsets = new Properties();
+
+    ConsumerOffsets(Path root, String group) {
+        this.file = root.resolve("offsets").resolve(group + ".offsets");
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                offsets.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    synchronized long committed(String topic, int partition) {
+        return Long.parseLong(offsets.getProperty(topic + "." + partition, "0"));
+    }
+
+    synchronized void commit(String topic, int partition, long nextOffset) {
+        offsets.setProperty(topic + "." + partition, Long.toString(nextOffset));
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                offsets.store(out, null);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.turnover.eventlog;
+
+import com.example.turnover.events.PipelineEvent;
+import com.example.turnover.events.TenantMovedOutEvent;
+import com.example.turnover.events.TurnoverReadyForMoveInEvent;
+import com.example.turnover.events.WorkOrderCompletedEvent;
+import com.example.turnover.events.WorkOrderSlaBreachedEvent;
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of pipeline events for the log. The topic identifies the event type,
+ * so records carry only field values: strings as [short length][UTF-8], UUIDs as two longs,
+ * enums as their ordinal byte, timestamps as [long epoch second][int nano] (UTC wall clock).
+ */
+final class EventCodec {
+
+    private EventCodec() {
+    }
+
+    static byte[] encode(PipelineEvent event) {
+        if (event instanceof TenantMovedOutEvent e) {
+            byte[] propertyId = utf8(e.getPropertyId());
+            ByteBuffer buf = ByteBuffer.allocate(Short.BYTES + propertyId.length + 3 * Long.BYTES + Integer.BYTES);
+            buf.putShort((short) propertyId.length).put(propertyId);
+            putUuid(buf, e.getTurnoverId());
+            putTimestamp(buf, e.getMovedOutAt());
+            return buf.array();
+        }
+        if (event instanceof WorkOrderCompletedEvent e) {
+            ByteBuffer buf = ByteBuffer.allocate(5 * Long.BYTES + 1 + Integer.BYTES);
+            putUuid(buf, e.getTurnoverId());
+            putUuid(buf, e.getWorkOrderId());
+            buf.put((byte) e.getType().ordinal());
+            putTimestamp(buf, e.getCompletedAt());
+            return buf.array();
+        }
+        if (event instanceof TurnoverReadyForMoveInEvent e) {
+            byte[] propertyId = utf8(e.getPropertyId());
+            ByteBuffer buf = ByteBuffer.allocate(Short.BYTES + propertyId.length + 3 * Long.BYTES);
+            buf.putShort((short) propertyId.length).put(propertyId);
+            putUuid(buf, e.getTurnoverId());
+            return buf.putLong(e.getCycleTimeHours()).array();
+        }
+        if (event instanceof WorkOrderSlaBreachedEvent e) {
+            ByteBuffer buf = ByteBuffer.allocate(5 * Long.BYTES + 1 + Integer.BYTES);
+            putUuid(buf, e.getTurnoverId());
+            putUuid(buf, e.getWorkOrderId());
+            buf.put((byte) e.getType().ordinal());
+            putTimestamp(buf, e.getSlaDeadline());
+            return buf.array();
+        }
+        throw new IllegalArgumentException("No log encoding for " + event.getClass().getSimpleName());
+    }
+
+    static PipelineEvent decode(String topic, ByteBuffer payload) {
+        ByteBuffer buf = payload.duplicate();
+        return switch (topic) {
+            case TenantMovedOutEvent.TOPIC -> new TenantMovedOutEvent(getString(buf), getUuid(buf), getTimestamp(buf));
+            case WorkOrderCompletedEvent.TOPIC ->
+                    new WorkOrderCompletedEvent(getUuid(buf), getUuid(buf), WorkOrderType.values()[buf.get()],
+                            getTimestamp(buf));
+            case TurnoverReadyForMoveInEvent.TOPIC ->
+                    new TurnoverReadyForMoveInEvent(getString(buf), getUuid(buf), buf.getLong());
+            case WorkOrderSlaBreachedEvent.TOPIC ->
+                    new WorkOrderSlaBreachedEvent(getUuid(buf), getUuid(buf), WorkOrderType.values()[buf.get()],
+                            getTimestamp(buf));
+            default -> throw new IllegalArgumentException("Unknown topic " + topic);
+        };
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getShort()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putUuid(ByteBuffer buf, UUID uuid) {
+        buf.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buf) {
+        return new UUID(buf.getLong(), buf.getLong());
+    }
+
+    private static void putTimestamp(ByteBuffer buf, LocalDateTime time) {
+        buf.putLong(time.toEpochSecond(ZoneOffset.UTC)).putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buf) {
+        return LocalDateTime.ofEpochSecond(buf.getLong(), buf.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.turnover.eventlog;
+
+import com.example.turnover.events.PipelineEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Embedded, append-only, partitioned event log — a single-box stand-in for the Kafka cluster the
+ * event classes are modelled on.
+ *
+ * Layout on disk: {@code <root>/<topic>/<partition>/<baseOffset>.log} segment files plus
+ * {@code <root>/offsets/<group>.offsets} for committed consumer-group positions. Records are routed
+ * to a partition by {@link PipelineEvent#partitionKey()}, so each turnover is consumed in order.
+ * The partition count of an existing topic is taken from disk, so keys keep mapping to the same
+ * partition across restarts.
+ */
+public class EventLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLog.class);
+
+    private final Path root;
+    private final int defaultPartitions;
+    private final int segmentBytes;
+    private final Map<String, PartitionLog[]> topics = new ConcurrentHashMap<>();
+    private final Map<String, ConsumerOffsets> groups = new ConcurrentHashMap<>();
+
+    public EventLog(Path root, int defaultPartitions, int segmentBytes) {
+        this.root = root;
+        this.defaultPartitions = defaultPartitions;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /** Appends the event to its topic and returns the offset within its partition */
+    public long append(PipelineEvent event) {
+        PartitionLog[] partitions = topic(event.topic());
+        int partition = partitionFor(event.partitionKey(), partitions.length);
+        return partitions[partition].append(System.currentTimeMillis(), EventCodec.encode(event));
+    }
+
+    public int partitionCount(String topic) {
+        return topic(topic).length;
+    }
+
+    public long endOffset(String topic, int partition) {
+        return topic(topic)[partition].endOffset();
+    }
+
+    /** Raw records from an explicit offset; payloads are views into the mapped segment */
+    public List<LogRecord> read(String topic, int partition, long fromOffset, int maxRecords) {
+        return topic(topic)[partition].read(fromOffset, maxRecords);
+    }
+
+    /** Next records for a consumer group, starting at its committed position */
+    public List<LogRecord> poll(String group, String topic, int partition, int maxRecords) {
+        return read(topic, partition, offsets(group).committed(topic, partition), maxRecords);
+    }
+
+    public void commit(String group, String topic, int partition, long nextOffset) {
+        offsets(group).commit(topic, partition, nextOffset);
+    }
+
+    public PipelineEvent decode(String topic, LogRecord record) {
+        return EventCodec.decode(topic, record.payload());
+    }
+
+    /**
+     * Replays a whole topic from the beginning, partition by partition, e.g. to rebuild a read model.
+     * Order is preserved within a partition (i.e. per turnover), not across partitions.
+     */
+    public long replay(String topic, Consumer<PipelineEvent> consumer) {
+        long replayed = 0;
+        PartitionLog[] partitions = topic(topic);
+        for (PartitionLog partition : partitions) {
+            long offset = 0;
+            List<LogRecord> batch;
+            while (!(batch = partition.read(offset, 1024)).isEmpty()) {
+                for (LogRecord record : batch) {
+                    consumer.accept(EventCodec.decode(topic, record.payload()));
+                }
+                offset += batch.size();
+                replayed += batch.size();
+            }
+        }
+        return replayed;
+    }
+
+    public void flush() {
+        topics.values().forEach(partitions -> {
+            for (PartitionLog partition : partitions) partition.flush();
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (PartitionLog[] partitions : topics.values()) {
+            for (PartitionLog partition : partitions) partition.close();
+        }
+    }
+
+    static int partitionFor(String key, int partitions) {
+        return Math.floorMod(key.hashCode(), partitions);
+    }
+
+    private PartitionLog[] topic(String topic) {
+        return topics.computeIfAbsent(topic, this::openTopic);
+    }
+
+    private ConsumerOffsets offsets(String group) {
+        return groups.computeIfAbsent(group, g -> new ConsumerOffsets(root, g));
+    }
+
+    private PartitionLog[] openTopic(String topic) {
+        Path dir = root.resolve(topic);
+        try {
+            int count = defaultPartitions;
+            if (Files.isDirectory(dir)) {
+                try (Stream<Path> existing = Files.list(dir)) {
+                    long onDisk = existing.filter(Files::isDirectory).count();
+                    if (onDisk > 0) count = (int) onDisk;
+                }
+            }
+            PartitionLog[] partitions = new PartitionLog[count];
+            for (int i = 0; i < count; i++) {
+                partitions[i] = new PartitionLog(dir.resolve(Integer.toString(i)), segmentBytes);
+            }
+            log.info("[EVENT LOG] opened topic {} with {} partitions", topic, count);
+            return partitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
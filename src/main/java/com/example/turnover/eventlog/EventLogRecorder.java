@@ -0,0 +1,55 @@
+package com.example.turnover.eventlog;
+
+import com.example.turnover.events.PipelineEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Consumer that appends every pipeline event, as delivered, to the embedded log.
+ *
+ * The outbox relay delivers at-least-once: a row whose batch failed after this consumer ran is
+ * delivered again. Outbox ids recorded recently are remembered, so each row is appended once. The
+ * window outlasts the relay's retries of a row; only a redelivery after a restart can still repeat.
+ */
+public class EventLogRecorder {
+
+    static final int DEDUPE_WINDOW = 65_536;
+
+    private final EventLog eventLog;
+
+    /** Guarded by itself; insertion order, eldest evicted past DEDUPE_WINDOW */
+    private final Map<Long, Boolean> recordedOutboxIds = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > DEDUPE_WINDOW;
+        }
+    };
+
+    public EventLogRecorder(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    @EventListener
+    public void record(PipelineEvent event) {
+        long outboxId = event.outboxId();
+        if (outboxId != 0) {
+            synchronized (recordedOutboxIds) {
+                if (recordedOutboxIds.putIfAbsent(outboxId, Boolean.TRUE) != null) {
+                    return;
+                }
+            }
+        }
+        try {
+            eventLog.append(event);
+        } catch (RuntimeException e) {
+            if (outboxId != 0) {
+                synchronized (recordedOutboxIds) {
+                    recordedOutboxIds.remove(outboxId);
+                }
+            }
+            throw e;
+        }
+    }
+}
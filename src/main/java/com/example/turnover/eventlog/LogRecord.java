@@ -0,0 +1,10 @@
+package com.example.turnover.eventlog;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One entry of a partition. The payload is a read-only view straight into the memory-mapped
+ * segment — no copy is made until it is decoded.
+ */
+public record LogRecord(long offset, long timestampMillis, ByteBuffer payload) {
+}
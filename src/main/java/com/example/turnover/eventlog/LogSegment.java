@@ -0,0 +1,126 @@
+package com.example.turnover.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A fixed-capacity, memory-mapped file holding consecutive records of one partition, starting at
+ * {@code baseOffset}. File name is the zero-padded base offset, as in Kafka.
+ *
+ * Record layout: [int payloadLength][long offset][long timestampMillis][payload bytes]. The length is
+ * written last, so a torn write at crash time leaves a zero length and recovery stops there.
+ *
+ * Single writer (the owning {@link PartitionLog} appends under its lock), any number of readers:
+ * {@code published} is the volatile publication point for records and the position index.
+ */
+final class LogSegment implements Closeable {
+
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final long baseOffset;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer readView;
+
+    private int[] positions = new int[1024];
+    private int writePosition;
+    private volatile int published;
+
+    private LogSegment(long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+        this.baseOffset = baseOffset;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.readView = buffer.asReadOnlyBuffer();
+    }
+
+    static Path fileName(Path dir, long baseOffset) {
+        return dir.resolve(String.format("%020d.log", baseOffset));
+    }
+
+    /** Opens (or creates) the segment file and recovers the records already in it */
+    static LogSegment open(Path dir, long baseOffset, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(fileName(dir, baseOffset),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.max(capacity, channel.size());
+        LogSegment segment = new LogSegment(baseOffset, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        segment.recover();
+        return segment;
+    }
+
+    private void recover() {
+        int position = 0;
+        int count = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0
+                    || position + HEADER_BYTES + length > buffer.capacity()
+                    || buffer.getLong(position + Integer.BYTES) != baseOffset + count) {
+                break;
+            }
+            addPosition(count++, position);
+            position += HEADER_BYTES + length;
+        }
+        writePosition = position;
+        published = count;
+    }
+
+    /** Appends one record; returns false when the segment is full and the log must roll */
+    boolean tryAppend(long timestampMillis, byte[] payload) {
+        int position = writePosition;
+        if (position + HEADER_BYTES + payload.length > buffer.capacity()) {
+            return false;
+        }
+        int count = published;
+        buffer.putLong(position + Integer.BYTES, baseOffset + count);
+        buffer.putLong(position + Integer.BYTES + Long.BYTES, timestampMillis);
+        buffer.put(position + HEADER_BYTES, payload);
+        buffer.putInt(position, payload.length);
+
+        addPosition(count, position);
+        writePosition = position + HEADER_BYTES + payload.length;
+        published = count + 1;
+        return true;
+    }
+
+    /** The record at the given absolute offset, or null if it is not (yet) in this segment */
+    LogRecord read(long offset) {
+        int index = (int) (offset - baseOffset);
+        if (index < 0 || index >= published) return null;
+        int position = positions[index];
+        int length = readView.getInt(position);
+        long timestamp = readView.getLong(position + Integer.BYTES + Long.BYTES);
+        return new LogRecord(offset, timestamp, readView.slice(position + HEADER_BYTES, length));
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    /** Offset the next appended record would get */
+    long nextOffset() {
+        return baseOffset + published;
+    }
+
+    void flush() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void addPosition(int index, int position) {
+        if (index == positions.length) {
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        }
+        positions[index] = position;
+    }
+}
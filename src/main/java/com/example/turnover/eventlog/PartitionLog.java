@@ -0,0 +1,97 @@
+package com.example.turnover.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only sequence of records for one partition of a topic, stored as a chain of
+ * memory-mapped {@link LogSegment}s in its own directory. A new segment is rolled when the
+ * active one is full; old segments are never rewritten.
+ */
+final class PartitionLog implements Closeable {
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final ConcurrentSkipListMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private LogSegment active;
+
+    PartitionLog(Path dir, int segmentBytes) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.segmentBytes = segmentBytes;
+
+        List<Long> baseOffsets;
+        try (Stream<Path> files = Files.list(dir)) {
+            baseOffsets = files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(".log"))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - ".log".length())))
+                    .sorted()
+                    .toList();
+        }
+        for (long baseOffset : baseOffsets) {
+            segments.put(baseOffset, LogSegment.open(dir, baseOffset, segmentBytes));
+        }
+        active = segments.isEmpty() ? roll(0) : segments.lastEntry().getValue();
+    }
+
+    synchronized long append(long timestampMillis, byte[] payload) {
+        if (payload.length + LogSegment.HEADER_BYTES > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds segment size " + segmentBytes);
+        }
+        long offset = active.nextOffset();
+        if (!active.tryAppend(timestampMillis, payload)) {
+            active = roll(offset);
+            active.tryAppend(timestampMillis, payload);
+        }
+        return offset;
+    }
+
+    /** Up to maxRecords consecutive records starting at fromOffset (sequential scan across segments) */
+    List<LogRecord> read(long fromOffset, int maxRecords) {
+        List<LogRecord> records = new ArrayList<>(Math.min(maxRecords, 256));
+        Map.Entry<Long, LogSegment> entry = segments.floorEntry(Math.max(fromOffset, 0));
+        long offset = Math.max(fromOffset, 0);
+        while (entry != null && records.size() < maxRecords) {
+            LogRecord record = entry.getValue().read(offset);
+            if (record == null) {
+                entry = segments.higherEntry(entry.getKey());
+                continue;
+            }
+            records.add(record);
+            offset++;
+        }
+        return records;
+    }
+
+    long endOffset() {
+        return segments.lastEntry().getValue().nextOffset();
+    }
+
+    synchronized void flush() {
+        active.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (LogSegment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    private LogSegment roll(long baseOffset) {
+        try {
+            LogSegment segment = LogSegment.open(dir, baseOffset, segmentBytes);
+            segments.put(baseOffset, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
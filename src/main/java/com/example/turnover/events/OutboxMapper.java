@@ -0,0 +1,58 @@
+package com.example.turnover.events;
+
+import com.example.turnover.model.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/** Converts pipeline events to and from their outbox rows */
+final class OutboxMapper {
+
+    private OutboxMapper() {
+    }
+
+    static OutboxEvent toRow(PipelineEvent event) {
+        OutboxEvent row = new OutboxEvent();
+        row.setTopic(event.topic());
+        row.setPartitionKey(event.partitionKey());
+        row.setCreatedAt(LocalDateTime.now());
+        if (event instanceof TenantMovedOutEvent e) {
+            row.setPropertyId(e.getPropertyId());
+            row.setTurnoverId(e.getTurnoverId());
+            row.setOccurredAt(e.getMovedOutAt());
+        } else if (event instanceof WorkOrderCompletedEvent e) {
+            row.setTurnoverId(e.getTurnoverId());
+            row.setWorkOrderId(e.getWorkOrderId());
+            row.setWorkOrderType(e.getType());
+            row.setOccurredAt(e.getCompletedAt());
+        } else if (event instanceof TurnoverReadyForMoveInEvent e) {
+            row.setPropertyId(e.getPropertyId());
+            row.setTurnoverId(e.getTurnoverId());
+            row.setCycleTimeHours(e.getCycleTimeHours());
+        } else if (event instanceof WorkOrderSlaBreachedEvent e) {
+            row.setTurnoverId(e.getTurnoverId());
+            row.setWorkOrderId(e.getWorkOrderId());
+            row.setWorkOrderType(e.getType());
+            row.setSlaDeadline(e.getSlaDeadline());
+        } else {
+            throw new IllegalArgumentException("No outbox mapping for " + event.getClass().getSimpleName());
+        }
+        return row;
+    }
+
+    static PipelineEvent toEvent(OutboxEvent row) {
+        PipelineEvent event = switch (row.getTopic()) {
+            case TenantMovedOutEvent.TOPIC -> new TenantMovedOutEvent(row.getPropertyId(), row.getTurnoverId(), row.getOccurredAt());
+            case WorkOrderCompletedEvent.TOPIC ->
+                    new WorkOrderCompletedEvent(row.getTurnoverId(), row.getWorkOrderId(), row.getWorkOrderType(),
+                            row.getOccurredAt());
+            case TurnoverReadyForMoveInEvent.TOPIC ->
+                    new TurnoverReadyForMoveInEvent(row.getPropertyId(), row.getTurnoverId(), row.getCycleTimeHours());
+            case WorkOrderSlaBreachedEvent.TOPIC ->
+                    new WorkOrderSlaBreachedEvent(row.getTurnoverId(), row.getWorkOrderId(), row.getWorkOrderType(),
+                            row.getSlaDeadline());
+            default -> throw new IllegalStateException("Unknown outbox topic " + row.getTopic());
+        };
+        event.relayedFrom(row.getId());
+        return event;
+    }
+}
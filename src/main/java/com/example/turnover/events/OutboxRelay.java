@@ -0,0 +1,123 @@
+package com.example.turnover.events;
+
+import com.example.turnover.model.entity.OutboxEvent;
+import com.example.turnover.repository.OutboxEventRepository;
+import com.example.turnover.service.PipelineMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drains the outbox table: claims up to batch-size rows in id order, publishes them and deletes the
+ * delivered ones in one statement. Runs on the single scheduler thread.
+ *
+ * Delivery is at-least-once. A claim is a lease: if the relay dies (or a listener fails) before the
+ * rows are deleted, they become claimable again once lease-seconds have passed. A failing event holds
+ * back the later events of its own partition (in this batch, and in later claims while it is leased) so
+ * they are not delivered ahead of it; other partitions keep flowing. After max-attempts failed
+ * deliveries the row is dead-lettered and its partition moves on.
+ *
+ * Relayed events are always delivered synchronously on the relay thread, also with
+ * turnover.events.async.enabled=true: a row is deleted only after its listeners have run and succeeded.
+ */
+@Component
+@ConditionalOnProperty(name = "turnover.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final String relayId = "relay-" + UUID.randomUUID();
+
+    private final OutboxEventRepository repository;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final PipelineMetrics metrics;
+
+    public OutboxRelay(OutboxEventRepository repository,
+                       ApplicationEventPublisher publisher,
+                       TransactionTemplate transactionTemplate,
+                       PipelineMetrics metrics,
+                       @Value("${turnover.outbox.batch-size:500}") int batchSize,
+                       @Value("${turnover.outbox.lease-seconds:30}") long leaseSeconds,
+                       @Value("${turnover.outbox.max-attempts:5}") int maxAttempts) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(fixedDelayString = "${turnover.outbox.poll-interval-ms:200}")
+    public void relay() {
+        // keep draining while batches come back full, then wait for the next poll
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        List<Long> failed = new ArrayList<>();
+        Set<String> heldBack = new HashSet<>();
+        for (OutboxEvent row : batch) {
+            // a later event of a partition whose earlier event failed stays leased and waits for it
+            if (heldBack.contains(row.getPartitionKey())) continue;
+            try {
+                PipelineEvent event = OutboxMapper.toEvent(row);
+                metrics.published(event, row.getCreatedAt());
+                PartitionedEventDispatcher.inline(() -> publisher.publishEvent(event));
+                delivered.add(row.getId());
+            } catch (RuntimeException e) {
+                log.error("[OUTBOX] delivery of {} id={} failed (attempt {}/{}) — partition {} held back until lease expiry",
+                        row.getTopic(), row.getId(), row.getAttempts() + 1, maxAttempts, row.getPartitionKey(), e);
+                failed.add(row.getId());
+                heldBack.add(row.getPartitionKey());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) repository.deleteAllByIdInBatch(delivered);
+            if (failed.isEmpty()) return;
+            repository.recordFailedAttempt(failed);
+            int parked = repository.deadLetter(failed, maxAttempts, LocalDateTime.now());
+            if (parked > 0) {
+                log.error("[OUTBOX] dead-lettered {} event(s) after {} failed attempts", parked, maxAttempts);
+            }
+        });
+        log.debug("[OUTBOX] relayed {}/{} events", delivered.size(), batch.size());
+        return delivered.size() == batch.size() ? batch.size() : 0;
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiredBefore = now.minusSeconds(leaseSeconds);
+
+        List<Long> ids = repository.findClaimableIds(leaseExpiredBefore, Limit.of(batchSize));
+        if (ids.isEmpty()) return List.of();
+
+        repository.claim(ids, relayId, now, leaseExpiredBefore);
+        return repository.findByClaimedByAndIdInOrderByIdAsc(relayId, ids);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.turnover.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs event listeners off the publishing thread while keeping per-key ordering.
+ *
+ * Kafka analogy: each lane is a partition with a single consumer. A key always hashes to the same
+ * lane, so events for one turnover are consumed in publish order; different turnovers spread
+ * across lanes and proceed in parallel.
+ *
+ * Capacity is bounded for producers outside the dispatcher (HTTP threads block once
+ * {@code queueCapacity} events are pending — backpressure). Events published by a listener while
+ * it is being dispatched are always accepted, otherwise two full lanes feeding each other could deadlock.
+ */
+public class PartitionedEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedEventDispatcher.class);
+
+    private static final ThreadLocal<Boolean> DISPATCHER_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private static final ThreadLocal<Boolean> INLINE = ThreadLocal.withInitial(() -> false);
+
+    private final Lane[] lanes;
+    private final Semaphore capacity;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder backpressureWaits = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    /** Counters since startup; queueWait is the time from publish until a listener starts */
+    public record Stats(long submitted, long completed, long failed, long pending, long backpressureWaits,
+                        double avgQueueWaitMillis, double maxQueueWaitMillis) {
+    }
+
+    public PartitionedEventDispatcher(int laneCount, int queueCapacity, Executor executor) {
+        this.capacity = new Semaphore(queueCapacity);
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane();
+            executor.execute(lanes[i]::drain);
+        }
+    }
+
+    /**
+     * Runs the action with every event it publishes delivered synchronously on the calling thread, so a
+     * failing listener propagates to the caller — for the outbox relay, which may only delete a row once
+     * its listeners have succeeded.
+     */
+    public static void inline(Runnable action) {
+        boolean outer = INLINE.get();
+        INLINE.set(true);
+        try {
+            action.run();
+        } finally {
+            INLINE.set(outer);
+        }
+    }
+
+    static boolean isInline() {
+        return INLINE.get();
+    }
+
+    public void dispatch(String key, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("Event dispatcher is shut down");
+        }
+        boolean bounded = !DISPATCHER_THREAD.get();
+        if (bounded && !capacity.tryAcquire()) {
+            backpressureWaits.increment();
+            capacity.acquireUninterruptibly();
+        }
+        submitted.increment();
+        lanes[Math.floorMod(key.hashCode(), lanes.length)].queue.add(new Task(task, System.nanoTime(), bounded));
+    }
+
+    public Stats stats() {
+        long done = completed.sum() + failed.sum();
+        long pending = 0;
+        for (Lane lane : lanes) {
+            pending += lane.queue.size();
+        }
+        return new Stats(submitted.sum(), completed.sum(), failed.sum(), pending, backpressureWaits.sum(),
+                done > 0 ? queueWaitNanos.sum() / 1_000_000.0 / done : 0,
+                maxQueueWaitNanos.get() / 1_000_000.0);
+    }
+
+    /** Stops accepting events and waits (bounded) for the lanes to drain what is already queued */
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.queue.add(Task.POISON);
+        }
+        for (Lane lane : lanes) {
+            if (!lane.stopped.await(10, TimeUnit.SECONDS)) {
+                log.warn("[DISPATCH] lane did not drain within 10s — {} events dropped", lane.queue.size());
+            }
+        }
+    }
+
+    private record Task(Runnable runnable, long enqueuedAtNanos, boolean bounded) {
+        static final Task POISON = new Task(() -> { }, 0, false);
+    }
+
+    private final class Lane {
+
+        private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        void drain() {
+            DISPATCHER_THREAD.set(true);
+            try {
+                while (true) {
+                    Task task = queue.take();
+                    if (task == Task.POISON) return;
+                    run(task);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        private void run(Task task) {
+            long wait = System.nanoTime() - task.enqueuedAtNanos();
+            queueWaitNanos.add(wait);
+            maxQueueWaitNanos.accumulateAndGet(wait, Math::max);
+            try {
+                task.runnable().run();
+                completed.increment();
+            } catch (Throwable t) {
+                failed.increment();
+                log.error("[DISPATCH] listener failed", t);
+            } finally {
+                if (task.bounded()) capacity.release();
+            }
+        }
+    }
+}
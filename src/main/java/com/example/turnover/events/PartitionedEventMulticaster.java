@@ -0,0 +1,32 @@
+package com.example.turnover.events;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Hands {@link PipelineEvent}s to the {@link PartitionedEventDispatcher} so @EventListener methods run
+ * off the publisher's thread. Every other application event (context lifecycle etc.) is still
+ * delivered synchronously, and so are pipeline events published inside
+ * {@link PartitionedEventDispatcher#inline}.
+ */
+public class PartitionedEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final PartitionedEventDispatcher dispatcher;
+
+    public PartitionedEventMulticaster(PartitionedEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                && payloadEvent.getPayload() instanceof PipelineEvent pipelineEvent
+                && !PartitionedEventDispatcher.isInline()) {
+            dispatcher.dispatch(pipelineEvent.partitionKey(), () -> super.multicastEvent(event, eventType));
+        } else {
+            super.multicastEvent(event, eventType);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.turnover.events;
+
+/**
+ * Common contract of the turnover pipeline events.
+ *
+ * Kafka analogy: {@link #topic()} is the topic the record is written to and {@link #partitionKey()}
+ * its key. Events with the same key are consumed in publish order; events with different keys may
+ * be consumed in parallel.
+ *
+ * An event also carries when it was published (System.nanoTime), so consumers can report their lag
+ * without a shared lookup on the hot path. 0 until published. Events relayed from the outbox also
+ * carry their row's id, which stays the same across redeliveries of the row.
+ */
+public abstract class PipelineEvent {
+
+    private volatile long publishedNanos;
+    private long outboxId;
+
+    public abstract String topic();
+
+    public abstract String partitionKey();
+
+    public long publishedNanos() {
+        return publishedNanos;
+    }
+
+    public void markPublished(long nanoTime) {
+        this.publishedNanos = nanoTime;
+    }
+
+    /** Id of the outbox row this event was relayed from; 0 for events published in memory */
+    public long outboxId() {
+        return outboxId;
+    }
+
+    void relayedFrom(long outboxId) {
+        this.outboxId = outboxId;
+    }
+}
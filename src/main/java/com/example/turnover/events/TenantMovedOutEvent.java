@@ -1,13 +1,49 @@
 package com.example.turnover.events;
 
-public class TenantMovedOutEvent {
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Simulates a Kafka message on topic: tenant.moved-out
+ *
+ * Partitioned by turnover, like every later event of the turnover, so the move-out is consumed
+ * before the work order events that follow it.
+ * Carries the id of the turnover it started, so consumers need no property lookup, and the
+ * move-out time, so work orders are dated by when things happened rather than when consumed.
+ */
+public class TenantMovedOutEvent extends PipelineEvent {
+
+    public static final String TOPIC = "tenant.moved-out";
+
     private final String propertyId;
+    private final UUID turnoverId;
+    private final LocalDateTime movedOutAt;
 
-    public TenantMovedOutEvent(String propertyId) {
+    public TenantMovedOutEvent(String propertyId, UUID turnoverId, LocalDateTime movedOutAt) {
         this.propertyId = propertyId;
+        this.turnoverId = turnoverId;
+        this.movedOutAt = movedOutAt;
     }
 
     public String getPropertyId() {
         return propertyId;
     }
+
+    public UUID getTurnoverId() {
+        return turnoverId;
+    }
+
+    public LocalDateTime getMovedOutAt() {
+        return movedOutAt;
+    }
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String partitionKey() {
+        return turnoverId.toString();
+    }
 }
@@ -0,0 +1,110 @@
+package com.example.turnover.events;
+
+import com.example.turnover.repository.OutboxEventRepository;
+import com.example.turnover.service.PipelineMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single publishing point for pipeline events. Kafka analogy: the producer.
+ *
+ *  outbox enabled  → the event is written to the outbox table in the caller's transaction and
+ *                    delivered later by {@link OutboxRelay} (durable, at-least-once)
+ *  outbox disabled → the event is published in memory once the caller's transaction commits
+ *                    (immediately when there is none), so consumers never see uncommitted state.
+ *                    Events of one transaction are buffered and flushed together, in publish order,
+ *                    by a single after-commit callback — after the transaction's other callbacks,
+ *                    so in-memory indexes are up to date when consumers run
+ *
+ * Either way consumers may run after the producer's transaction is gone: listeners that write
+ * must open their own transaction (REQUIRES_NEW when invoked from an after-commit callback).
+ */
+@Component
+public class TurnoverEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+    private final OutboxEventRepository outboxRepository;
+    private final boolean outboxEnabled;
+    private final PipelineMetrics metrics;
+
+    public TurnoverEventPublisher(ApplicationEventPublisher publisher,
+                                  OutboxEventRepository outboxRepository,
+                                  @Value("${turnover.outbox.enabled:false}") boolean outboxEnabled,
+                                  PipelineMetrics metrics) {
+        this.publisher = publisher;
+        this.outboxRepository = outboxRepository;
+        this.outboxEnabled = outboxEnabled;
+        this.metrics = metrics;
+    }
+
+    public void publish(PipelineEvent event) {
+        metrics.published(event);
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (outboxEnabled) {
+            if (!inTransaction) {
+                throw new IllegalStateException("Outbox publish of " + event.topic() + " requires an active transaction");
+            }
+            outboxRepository.save(OutboxMapper.toRow(event));
+        } else if (inTransaction) {
+            pendingEvents().add(event);
+        } else {
+            publisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * The current transaction's buffer, created with its flush callback on first use. The buffer is
+     * unbound while the transaction is suspended and before flushing, so events of a REQUIRES_NEW
+     * transaction — including consumers run from the flush — never land in it.
+     */
+    @SuppressWarnings("unchecked")
+    private List<PipelineEvent> pendingEvents() {
+        List<PipelineEvent> pending = (List<PipelineEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<PipelineEvent> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean flushing;
+
+            @Override
+            public int getOrder() {
+                return LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TurnoverEventPublisher.this);
+            }
+
+            @Override
+            public void resume() {
+                if (!flushing) {
+                    TransactionSynchronizationManager.bindResource(TurnoverEventPublisher.this, buffer);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                flushing = true;
+                TransactionSynchronizationManager.unbindResourceIfPossible(TurnoverEventPublisher.this);
+                for (PipelineEvent event : buffer) {
+                    publisher.publishEvent(event);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TurnoverEventPublisher.this);
+            }
+        });
+        return buffer;
+    }
+}
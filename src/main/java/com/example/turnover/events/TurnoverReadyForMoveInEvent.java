@@ -8,7 +8,9 @@ import java.util.UUID;
  * Published when all work orders for a turnover are completed. In a real system,
  * a downstream Listing Service would consume this to re-activate the property listing.
  */
-public class TurnoverReadyForMoveInEvent {
+public class TurnoverReadyForMoveInEvent extends PipelineEvent {
+
+    public static final String TOPIC = "property.ready-for-move-in";
 
     private final String propertyId;
     private final UUID turnoverId;
@@ -31,4 +33,14 @@ public class TurnoverReadyForMoveInEvent {
     public long getCycleTimeHours() {
         return cycleTimeHours;
     }
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String partitionKey() {
+        return turnoverId.toString();
+    }
 }
@@ -2,6 +2,7 @@ package com.example.turnover.events;
 
 import com.example.turnover.model.enums.WorkOrderType;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -11,16 +12,20 @@ import java.util.UUID;
  * and consumed by TurnoverService (possibly in a separate microservice).
  * Spring's ApplicationEventPublisher gives us the same decoupling within a single JVM.
  */
-public class WorkOrderCompletedEvent {
+public class WorkOrderCompletedEvent extends PipelineEvent {
+
+    public static final String TOPIC = "workorder.completed";
 
     private final UUID turnoverId;
     private final UUID workOrderId;
     private final WorkOrderType type;
+    private final LocalDateTime completedAt;
 
-    public WorkOrderCompletedEvent(UUID turnoverId, UUID workOrderId, WorkOrderType type) {
+    public WorkOrderCompletedEvent(UUID turnoverId, UUID workOrderId, WorkOrderType type, LocalDateTime completedAt) {
         this.turnoverId = turnoverId;
         this.workOrderId = workOrderId;
         this.type = type;
+        this.completedAt = completedAt;
     }
 
     public UUID getTurnoverId() {
@@ -34,4 +39,18 @@ public class WorkOrderCompletedEvent {
     public WorkOrderType getType() {
         return type;
     }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String partitionKey() {
+        return turnoverId.toString();
+    }
 }
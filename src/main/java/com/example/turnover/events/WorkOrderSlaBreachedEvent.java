@@ -0,0 +1,55 @@
+package com.example.turnover.events;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Simulates a Kafka message on topic: workorder.sla-breached
+ *
+ * Published once per work order, when its SLA deadline passes while it is still open.
+ * In a real system a vendor-management consumer would escalate or reassign the job.
+ */
+public class WorkOrderSlaBreachedEvent extends PipelineEvent {
+
+    public static final String TOPIC = "workorder.sla-breached";
+
+    private final UUID turnoverId;
+    private final UUID workOrderId;
+    private final WorkOrderType type;
+    private final LocalDateTime slaDeadline;
+
+    public WorkOrderSlaBreachedEvent(UUID turnoverId, UUID workOrderId, WorkOrderType type, LocalDateTime slaDeadline) {
+        this.turnoverId = turnoverId;
+        this.workOrderId = workOrderId;
+        this.type = type;
+        this.slaDeadline = slaDeadline;
+    }
+
+    public UUID getTurnoverId() {
+        return turnoverId;
+    }
+
+    public UUID getWorkOrderId() {
+        return workOrderId;
+    }
+
+    public WorkOrderType getType() {
+        return type;
+    }
+
+    public LocalDateTime getSlaDeadline() {
+        return slaDeadline;
+    }
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    @Override
+    public String partitionKey() {
+        return turnoverId.toString();
+    }
+}
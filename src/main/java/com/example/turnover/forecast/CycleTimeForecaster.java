@@ -0,0 +1,100 @@
+package com.example.turnover.forecast;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.TurnoverRepository;
+import com.example.turnover.repository.WorkOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Monte Carlo cycle-time forecast: resamples recent per-type work order durations from the database
+ * (optionally with shifted SLA compliance) and runs them through the INSPECTION → (CLEANING || REPAIR)
+ * dependency structure on the dedicated forecast fork-join pool.
+ *
+ * Database cost is one bounded query per work order type; the simulation itself is pure CPU.
+ */
+@Service
+public class CycleTimeForecaster {
+
+    private static final Logger log = LoggerFactory.getLogger(CycleTimeForecaster.class);
+
+    /** Portfolio size when no move-out happened in the last 30 days */
+    private static final int DEFAULT_MONTHLY_TURNOVERS = 100;
+
+    private final WorkOrderRepository workOrderRepository;
+    private final TurnoverRepository turnoverRepository;
+    private final ForkJoinPool forecastPool;
+
+    public CycleTimeForecaster(WorkOrderRepository workOrderRepository,
+                               TurnoverRepository turnoverRepository,
+                               ForkJoinPool forecastPool) {
+        this.workOrderRepository = workOrderRepository;
+        this.turnoverRepository = turnoverRepository;
+        this.forecastPool = forecastPool;
+    }
+
+    public ForecastResult forecast(ForecastRequest request) {
+        request.validate();
+        long wallStart = System.nanoTime();
+
+        Map<WorkOrderType, DurationSampler> samplers = new EnumMap<>(WorkOrderType.class);
+        for (WorkOrderType type : WorkOrderType.values()) {
+            List<Long> durations = workOrderRepository.findRecentDurationSeconds(type.name(), request.samplesPerType());
+            if (durations.isEmpty()) {
+                throw new IllegalStateException("No completed " + type + " work orders to sample durations from");
+            }
+            samplers.put(type, DurationSampler.of(type, durations, request.slaComplianceDelta().getOrDefault(type, 0.0)));
+        }
+
+        int monthly = request.monthlyTurnovers() != null ? request.monthlyTurnovers() : recentMonthlyTurnovers();
+        long months = (request.simulations() + monthly - 1) / monthly;
+        if (months * monthly > ForecastRequest.MAX_SIMULATIONS) {
+            throw new IllegalArgumentException(request.simulations() + " simulations in whole months of " + monthly
+                    + " turnovers exceed " + ForecastRequest.MAX_SIMULATIONS + " — lower simulations or monthlyTurnovers");
+        }
+        ForecastTask.ForecastModel model = new ForecastTask.ForecastModel(
+                samplers.get(WorkOrderType.INSPECTION), samplers.get(WorkOrderType.CLEANING),
+                samplers.get(WorkOrderType.REPAIR), monthly, request.targetHours());
+        ForecastTask.Partial result = forecastPool.invoke(
+                new ForecastTask(model, 0, months, new SplittableRandom(request.seed())));
+
+        Map<WorkOrderType, ForecastResult.SampleInput> inputs = new EnumMap<>(WorkOrderType.class);
+        samplers.forEach((type, sampler) -> inputs.put(type, new ForecastResult.SampleInput(
+                sampler.size(), round(sampler.historicalCompliancePct()), round(sampler.forecastCompliancePct()))));
+
+        long wallMillis = (System.nanoTime() - wallStart) / 1_000_000;
+        ForecastResult forecast = new ForecastResult(
+                result.turnovers,
+                result.months,
+                monthly,
+                request.targetHours(),
+                round(100.0 * result.withinTarget / result.turnovers),
+                round(100.0 * result.monthsOnTarget / result.months),
+                round(result.cycleSecondsSum / 3600.0 / result.turnovers),
+                result.cycleTime.summary(),
+                inputs,
+                forecastPool.getParallelism(),
+                wallMillis);
+        log.info("[FORECAST] {} turnovers in {} ms on {} threads — {}% within {}h, portfolio hit {}%",
+                forecast.simulations(), wallMillis, forecast.parallelism(), forecast.withinTargetPct(),
+                forecast.targetHours(), forecast.portfolioHitPct());
+        return forecast;
+    }
+
+    private int recentMonthlyTurnovers() {
+        long recent = turnoverRepository.countByStartedAtAfter(LocalDateTime.now().minusDays(30));
+        return recent > 0 ? (int) Math.min(recent, ForecastRequest.MAX_SIMULATIONS) : DEFAULT_MONTHLY_TURNOVERS;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
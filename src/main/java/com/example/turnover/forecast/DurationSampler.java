@@ -0,0 +1,57 @@
+package com.example.turnover.forecast;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Empirical duration distribution of one work order type, resampled with replacement.
+ *
+ * Historical durations are split at the type's SLA into a within-SLA and an over-SLA pool; a sample
+ * first picks the pool (with the forecast SLA compliance as probability), then a duration from it.
+ * With no compliance change this is plain resampling of history; shifting compliance by delta
+ * percentage points reweights the pools while keeping the shape of each. A pool that is empty
+ * cannot be drawn from, so compliance then stays at 0% or 100% (reported as the forecast value).
+ */
+final class DurationSampler {
+
+    private final long[] withinSla;
+    private final long[] overSla;
+    private final double withinProbability;
+
+    private DurationSampler(long[] withinSla, long[] overSla, double withinProbability) {
+        this.withinSla = withinSla;
+        this.overSla = overSla;
+        this.withinProbability = withinProbability;
+    }
+
+    static DurationSampler of(WorkOrderType type, List<Long> durationSeconds, double complianceDeltaPct) {
+        long slaSeconds = type.getSlaHours() * 3600L;
+        long[] within = durationSeconds.stream().mapToLong(Long::longValue).filter(s -> s <= slaSeconds).toArray();
+        long[] over = durationSeconds.stream().mapToLong(Long::longValue).filter(s -> s > slaSeconds).toArray();
+
+        double historical = (double) within.length / durationSeconds.size();
+        double forecast = Math.min(1, Math.max(0, historical + complianceDeltaPct / 100));
+        if (within.length == 0) forecast = 0;
+        if (over.length == 0) forecast = 1;
+        return new DurationSampler(within, over, forecast);
+    }
+
+    long sample(SplittableRandom random) {
+        long[] pool = random.nextDouble() < withinProbability ? withinSla : overSla;
+        return pool[random.nextInt(pool.length)];
+    }
+
+    int size() {
+        return withinSla.length + overSla.length;
+    }
+
+    double historicalCompliancePct() {
+        return 100.0 * withinSla.length / size();
+    }
+
+    double forecastCompliancePct() {
+        return 100.0 * withinProbability;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.turnover.forecast;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.KpiSummaryAggregator;
+
+import java.util.Map;
+
+/**
+ * Monte Carlo forecast parameters; every field is optional.
+ *
+ *  simulations         simulated turnovers (rounded up to whole months), default 10^6
+ *  targetHours         cycle-time KPI, default 36
+ *  monthlyTurnovers    turnovers per month — the "portfolio"; default: move-outs in the last 30 days.
+ *                      Whole months must stay within MAX_SIMULATIONS turnovers
+ *  slaComplianceDelta  per-type change in SLA compliance, in percentage points (REPAIR: -10 → 10 points fewer
+ *                      REPAIRs within their 24h SLA than in the sampled history)
+ *  samplesPerType      most recent completed work orders per type to resample from, default 50,000
+ *  seed                equal seeds give identical forecasts
+ */
+public record ForecastRequest(Long simulations,
+                              Integer targetHours,
+                              Integer monthlyTurnovers,
+                              Map<WorkOrderType, Double> slaComplianceDelta,
+                              Integer samplesPerType,
+                              Long seed) {
+
+    public static final long MAX_SIMULATIONS = 50_000_000;
+    public static final int MAX_SAMPLES_PER_TYPE = 1_000_000;
+
+    public ForecastRequest {
+        simulations = simulations != null ? simulations : 1_000_000L;
+        targetHours = targetHours != null ? targetHours : KpiSummaryAggregator.KPI_TARGET_HOURS;
+        slaComplianceDelta = slaComplianceDelta != null ? Map.copyOf(slaComplianceDelta) : Map.of();
+        samplesPerType = samplesPerType != null ? samplesPerType : 50_000;
+        seed = seed != null ? seed : 1L;
+    }
+
+    void validate() {
+        if (simulations < 1 || simulations > MAX_SIMULATIONS) {
+            throw new IllegalArgumentException("simulations must be between 1 and " + MAX_SIMULATIONS);
+        }
+        if (targetHours < 1) {
+            throw new IllegalArgumentException("targetHours must be >= 1");
+        }
+        if (monthlyTurnovers != null && (monthlyTurnovers < 1 || monthlyTurnovers > MAX_SIMULATIONS)) {
+            throw new IllegalArgumentException("monthlyTurnovers must be between 1 and " + MAX_SIMULATIONS);
+        }
+        if (samplesPerType < 1 || samplesPerType > MAX_SAMPLES_PER_TYPE) {
+            throw new IllegalArgumentException("samplesPerType must be between 1 and " + MAX_SAMPLES_PER_TYPE);
+        }
+        for (Map.Entry<WorkOrderType, Double> delta : slaComplianceDelta.entrySet()) {
+            if (Math.abs(delta.getValue()) > 100) {
+                throw new IllegalArgumentException("slaComplianceDelta." + delta.getKey() + " must be within ±100");
+            }
+        }
+    }
+}
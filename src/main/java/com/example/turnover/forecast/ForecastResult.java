@@ -0,0 +1,31 @@
+package com.example.turnover.forecast;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.DurationHistogram;
+
+import java.util.Map;
+
+/**
+ * Simulated cycle-time distribution.
+ *
+ *  withinTargetPct  share of single turnovers finishing within targetHours
+ *  portfolioHitPct  share of simulated months whose average cycle time is within targetHours —
+ *                   "the probability the portfolio hits the KPI next month"
+ *  inputs           per type: how many historical durations were resampled, and their SLA compliance
+ *                   in history versus in this forecast
+ */
+public record ForecastResult(long simulations,
+                             long simulatedMonths,
+                             int monthlyTurnovers,
+                             int targetHours,
+                             double withinTargetPct,
+                             double portfolioHitPct,
+                             double meanCycleHours,
+                             DurationHistogram.Summary cycleTime,
+                             Map<WorkOrderType, SampleInput> inputs,
+                             int parallelism,
+                             long wallMillis) {
+
+    public record SampleInput(int samples, double historicalSlaCompliancePct, double forecastSlaCompliancePct) {
+    }
+}
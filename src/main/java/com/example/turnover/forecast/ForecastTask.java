@@ -0,0 +1,133 @@
+package com.example.turnover.forecast;
+
+import com.example.turnover.service.DurationHistogram;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates a range of months of turnovers, splitting in halves until a range is small enough to run
+ * inline. A single month of more than LEAF_SIMULATIONS turnovers is split the same way over its turnovers
+ * ({@link MonthSlice}), and judged against the target once its slices are merged. Each split hands the
+ * forked half its own {@link SplittableRandom#split()} — no shared RNG, and the split tree depends only on
+ * the range, so a seed reproduces the same result at any parallelism.
+ *
+ * A turnover follows the pipeline's dependency structure: INSPECTION, then CLEANING and REPAIR in
+ * parallel — cycle = inspection + max(cleaning, repair).
+ */
+final class ForecastTask extends RecursiveTask<ForecastTask.Partial> {
+
+    private static final long LEAF_SIMULATIONS = 50_000;
+
+    private final ForecastModel model;
+    private final long fromMonth;
+    private final long toMonth;
+    private final SplittableRandom random;
+
+    ForecastTask(ForecastModel model, long fromMonth, long toMonth, SplittableRandom random) {
+        this.model = model;
+        this.fromMonth = fromMonth;
+        this.toMonth = toMonth;
+        this.random = random;
+    }
+
+    record ForecastModel(DurationSampler inspection, DurationSampler cleaning, DurationSampler repair,
+                         int monthlyTurnovers, int targetHours) {
+    }
+
+    /** Results of a range of months; merged pairwise on the way back up the split tree */
+    static final class Partial {
+        final DurationHistogram cycleTime = new DurationHistogram();
+        long turnovers;
+        long withinTarget;
+        long cycleSecondsSum;
+        long months;
+        long monthsOnTarget;
+
+        Partial merge(Partial other) {
+            cycleTime.add(other.cycleTime);
+            turnovers += other.turnovers;
+            withinTarget += other.withinTarget;
+            cycleSecondsSum += other.cycleSecondsSum;
+            months += other.months;
+            monthsOnTarget += other.monthsOnTarget;
+            return this;
+        }
+    }
+
+    @Override
+    protected Partial compute() {
+        if (toMonth - fromMonth == 1 && model.monthlyTurnovers() > LEAF_SIMULATIONS) {
+            Partial month = new MonthSlice(model, 0, model.monthlyTurnovers(), random).compute();
+            closeMonth(model, month, month.cycleSecondsSum);
+            return month;
+        }
+        long leafMonths = Math.max(1, LEAF_SIMULATIONS / model.monthlyTurnovers());
+        if (toMonth - fromMonth <= leafMonths) {
+            return simulate();
+        }
+        long mid = (fromMonth + toMonth) >>> 1;
+        ForecastTask left = new ForecastTask(model, fromMonth, mid, random.split());
+        left.fork();
+        Partial right = new ForecastTask(model, mid, toMonth, random).compute();
+        return right.merge(left.join());
+    }
+
+    private Partial simulate() {
+        Partial partial = new Partial();
+        for (long month = fromMonth; month < toMonth; month++) {
+            closeMonth(model, partial, simulate(model, partial, model.monthlyTurnovers(), random));
+        }
+        return partial;
+    }
+
+    /** Simulates count turnovers into partial; returns the sum of their cycle times */
+    private static long simulate(ForecastModel model, Partial partial, long count, SplittableRandom random) {
+        long cycleSeconds = 0;
+        for (long i = 0; i < count; i++) {
+            long cycle = model.inspection().sample(random)
+                    + Math.max(model.cleaning().sample(random), model.repair().sample(random));
+            partial.cycleTime.record(cycle);
+            if (cycle / 3600 <= model.targetHours()) partial.withinTarget++;
+            cycleSeconds += cycle;
+        }
+        partial.turnovers += count;
+        partial.cycleSecondsSum += cycleSeconds;
+        return cycleSeconds;
+    }
+
+    private static void closeMonth(ForecastModel model, Partial partial, long monthCycleSeconds) {
+        partial.months++;
+        if (monthCycleSeconds <= model.targetHours() * 3600L * model.monthlyTurnovers()) partial.monthsOnTarget++;
+    }
+
+    /** Turnovers [from, to) of one month; merged slices carry the month's cycle-time sum but no month yet */
+    private static final class MonthSlice extends RecursiveTask<Partial> {
+
+        private final ForecastModel model;
+        private final long from;
+        private final long to;
+        private final SplittableRandom random;
+
+        MonthSlice(ForecastModel model, long from, long to, SplittableRandom random) {
+            this.model = model;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= LEAF_SIMULATIONS) {
+                Partial partial = new Partial();
+                simulate(model, partial, to - from, random);
+                return partial;
+            }
+            long mid = (from + to) >>> 1;
+            MonthSlice left = new MonthSlice(model, from, mid, random.split());
+            left.fork();
+            Partial right = new MonthSlice(model, mid, to, random).compute();
+            return right.merge(left.join());
+        }
+    }
+}
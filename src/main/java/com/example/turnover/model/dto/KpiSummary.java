@@ -0,0 +1,26 @@
+package com.example.turnover.model.dto;
+
+/**
+ * Aggregate KPIs across all turnovers, as returned by GET /turnovers/kpi/summary.
+ * avgCycleTimeHours and kpiCompliancePct are null until a turnover has completed.
+ */
+public record KpiSummary(
+        long totalTurnovers,
+        long completedTurnovers,
+        long inProgressTurnovers,
+        Long avgCycleTimeHours,
+        int kpiTargetHours,
+        long withinKpiCount,
+        Long kpiCompliancePct) {
+
+    public static KpiSummary of(long total, long completed, long cycleHoursSum, long withinTarget, int targetHours) {
+        return new KpiSummary(
+                total,
+                completed,
+                total - completed,
+                completed > 0 ? Math.round((double) cycleHoursSum / completed) : null,
+                targetHours,
+                withinTarget,
+                completed > 0 ? withinTarget * 100 / completed : null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.turnover.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of a POST /turnovers/moveouts body, e.g. {"propertyId":"PROP-1","movedOutAt":"2026-10-01T09:00:00"}.
+ * movedOutAt is optional and defaults to the time the line is processed.
+ */
+public record MoveOutLine(String propertyId, LocalDateTime movedOutAt) {
+}
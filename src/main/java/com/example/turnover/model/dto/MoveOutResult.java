@@ -0,0 +1,28 @@
+package com.example.turnover.model.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one POST /turnovers/moveouts line, streamed back in input order.
+ * line is 1-based; turnoverId is the turnover created or already in progress, null for INVALID lines.
+ */
+public record MoveOutResult(long line, String propertyId, Status status, UUID turnoverId, String error) {
+
+    public enum Status {
+        CREATED,
+        ALREADY_ACTIVE,
+        INVALID
+    }
+
+    public static MoveOutResult created(long line, String propertyId, UUID turnoverId) {
+        return new MoveOutResult(line, propertyId, Status.CREATED, turnoverId, null);
+    }
+
+    public static MoveOutResult alreadyActive(long line, String propertyId, UUID turnoverId) {
+        return new MoveOutResult(line, propertyId, Status.ALREADY_ACTIVE, turnoverId, null);
+    }
+
+    public static MoveOutResult invalid(long line, String propertyId, String error) {
+        return new MoveOutResult(line, propertyId, Status.INVALID, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.TurnoverStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** One of the slowest turnovers; cycleTimeHours is elapsed so far for a turnover still in progress */
+public record SlowTurnover(
+        UUID turnoverId,
+        String propertyId,
+        TurnoverStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        long cycleTimeHours) {
+}
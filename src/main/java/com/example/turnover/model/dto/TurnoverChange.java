@@ -0,0 +1,43 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed state change, as pushed to GET /turnovers/changes subscribers.
+ * Work order fields are null for TURNOVER_COMPLETED; slaDeadline is set for WORK_ORDER_CREATED only,
+ * cycleTimeHours for TURNOVER_COMPLETED only. at is when the change happened.
+ */
+public record TurnoverChange(
+        Type type,
+        String propertyId,
+        UUID turnoverId,
+        UUID workOrderId,
+        WorkOrderType workOrderType,
+        LocalDateTime slaDeadline,
+        Long cycleTimeHours,
+        LocalDateTime at) {
+
+    public enum Type {
+        WORK_ORDER_CREATED,
+        WORK_ORDER_COMPLETED,
+        TURNOVER_COMPLETED
+    }
+
+    public static TurnoverChange workOrderCreated(String propertyId, UUID turnoverId, UUID workOrderId,
+                                                  WorkOrderType type, LocalDateTime slaDeadline, LocalDateTime at) {
+        return new TurnoverChange(Type.WORK_ORDER_CREATED, propertyId, turnoverId, workOrderId, type, slaDeadline, null, at);
+    }
+
+    public static TurnoverChange workOrderCompleted(String propertyId, UUID turnoverId, UUID workOrderId,
+                                                    WorkOrderType type, LocalDateTime at) {
+        return new TurnoverChange(Type.WORK_ORDER_COMPLETED, propertyId, turnoverId, workOrderId, type, null, null, at);
+    }
+
+    public static TurnoverChange turnoverCompleted(String propertyId, UUID turnoverId, long cycleTimeHours,
+                                                   LocalDateTime at) {
+        return new TurnoverChange(Type.TURNOVER_COMPLETED, propertyId, turnoverId, null, null, null, cycleTimeHours, at);
+    }
+}
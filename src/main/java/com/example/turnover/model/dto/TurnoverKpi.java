@@ -0,0 +1,25 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.TurnoverStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full KPI report for a single turnover, as returned by GET /turnovers/{id}/kpi.
+ *
+ * workOrdersOnTimePct is null until at least one work order has completed;
+ * bottleneck is null when no work order has overrun its SLA.
+ */
+public record TurnoverKpi(
+        String propertyId,
+        UUID turnoverId,
+        TurnoverStatus status,
+        long cycleTimeHours,
+        int kpiTargetHours,
+        boolean slaBreached,
+        long varianceHours,
+        Long workOrdersOnTimePct,
+        WorkOrderKpi bottleneck,
+        List<WorkOrderKpi> workOrders) {
+}
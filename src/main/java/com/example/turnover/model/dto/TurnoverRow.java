@@ -0,0 +1,15 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.TurnoverStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** One turnover in a GET /turnovers page — projected by the query, never a managed entity */
+public record TurnoverRow(
+        UUID id,
+        String propertyId,
+        TurnoverStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt) {
+}
@@ -0,0 +1,20 @@
+package com.example.turnover.model.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a batch completion: per-completion results in request order, the number of turnovers
+ * the batch touched and how many of them it completed.
+ */
+public record WorkOrderBatchResult(int completed, int turnovers, int turnoversCompleted, List<Item> results) {
+
+    public enum Status {
+        COMPLETED,
+        ALREADY_COMPLETED,
+        NOT_FOUND
+    }
+
+    public record Item(UUID workOrderId, Status status, UUID turnoverId) {
+    }
+}
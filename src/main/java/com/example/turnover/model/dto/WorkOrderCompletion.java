@@ -0,0 +1,11 @@
+package com.example.turnover.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One completion of a POST /turnovers/workorders/complete batch. completedAt is when the vendor
+ * finished the job (devices sync later); it defaults to the time the batch is applied.
+ */
+public record WorkOrderCompletion(UUID workOrderId, LocalDateTime completedAt) {
+}
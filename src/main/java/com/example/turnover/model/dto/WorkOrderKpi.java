@@ -0,0 +1,18 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+
+/** Per-step SLA compliance for one work order within a {@link TurnoverKpi} report */
+public record WorkOrderKpi(
+        WorkOrderType type,
+        WorkOrderStatus status,
+        long slaHours,
+        long actualHours,
+        long overrunHours,
+        boolean onTime,
+        LocalDateTime slaDeadline,
+        LocalDateTime completedAt) {
+}
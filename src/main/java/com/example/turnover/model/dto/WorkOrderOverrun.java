@@ -0,0 +1,20 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** A work order past its SLA; open ones are measured up to the time of the request */
+public record WorkOrderOverrun(
+        UUID workOrderId,
+        UUID turnoverId,
+        WorkOrderType type,
+        WorkOrderStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        long slaHours,
+        long actualHours,
+        long overrunHours) {
+}
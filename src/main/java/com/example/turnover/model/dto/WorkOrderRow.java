@@ -0,0 +1,17 @@
+package com.example.turnover.model.dto;
+
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Work order fields projected by a streaming query, never a managed entity */
+public record WorkOrderRow(
+        UUID id,
+        UUID turnoverId,
+        WorkOrderType type,
+        WorkOrderStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt) {
+}
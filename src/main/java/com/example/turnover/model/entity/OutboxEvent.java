@@ -0,0 +1,151 @@
+package com.example.turnover.model.entity;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A pipeline event written in the same transaction as the state change that produced it
+ * (transactional outbox). The relay claims rows in id order, publishes them and deletes them;
+ * a row whose delivery keeps failing is dead-lettered (kept, never claimed again).
+ *
+ * The payload is stored as typed columns — the union of the fields of all pipeline events —
+ * rather than a serialized blob; unused columns stay null.
+ */
+@Entity
+public class OutboxEvent {
+
+    /** From a pooled sequence rather than an identity column, which would rule out insert batching */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    private String topic;
+    private String partitionKey;
+
+    private String propertyId;
+    private UUID turnoverId;
+    private UUID workOrderId;
+
+    @Enumerated(EnumType.STRING)
+    private WorkOrderType workOrderType;
+
+    private Long cycleTimeHours;
+    private LocalDateTime slaDeadline;
+
+    /** Business time carried by the event (move-out / completion), as opposed to createdAt */
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime createdAt;
+
+    /** Relay instance holding the lease, and when it was taken; null while unclaimed */
+    private String claimedBy;
+    private LocalDateTime claimedAt;
+
+    /** Failed deliveries so far; the row is dead-lettered once this reaches turnover.outbox.max-attempts */
+    private int attempts;
+    private LocalDateTime deadLetteredAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    public void setPartitionKey(String partitionKey) {
+        this.partitionKey = partitionKey;
+    }
+
+    public String getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(String propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public UUID getTurnoverId() {
+        return turnoverId;
+    }
+
+    public void setTurnoverId(UUID turnoverId) {
+        this.turnoverId = turnoverId;
+    }
+
+    public UUID getWorkOrderId() {
+        return workOrderId;
+    }
+
+    public void setWorkOrderId(UUID workOrderId) {
+        this.workOrderId = workOrderId;
+    }
+
+    public WorkOrderType getWorkOrderType() {
+        return workOrderType;
+    }
+
+    public void setWorkOrderType(WorkOrderType workOrderType) {
+        this.workOrderType = workOrderType;
+    }
+
+    public Long getCycleTimeHours() {
+        return cycleTimeHours;
+    }
+
+    public void setCycleTimeHours(Long cycleTimeHours) {
+        this.cycleTimeHours = cycleTimeHours;
+    }
+
+    public LocalDateTime getSlaDeadline() {
+        return slaDeadline;
+    }
+
+    public void setSlaDeadline(LocalDateTime slaDeadline) {
+        this.slaDeadline = slaDeadline;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+}
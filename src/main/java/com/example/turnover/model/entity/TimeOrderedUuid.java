@@ -0,0 +1,19 @@
+package com.example.turnover.model.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Identifier assigned by {@link TimeOrderedUuidGenerator} when the entity is persisted — no database
+ * round trip, so inserts can be batched, and ids increase with time, so new rows land at the end of
+ * the primary key index instead of at random pages.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
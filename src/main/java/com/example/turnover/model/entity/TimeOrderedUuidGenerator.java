@@ -0,0 +1,45 @@
+package com.example.turnover.model.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562) ids: 48-bit Unix milliseconds, then a 12-bit sequence (rand_a), then 62 random bits.
+ *
+ * The millisecond and sequence are taken together from one counter that never goes backwards, so ids
+ * from this JVM are strictly increasing — also within a millisecond and across a clock step back.
+ * More than 4096 ids in a millisecond borrow from the next one.
+ *
+ * {@link #next()} is also used by the JDBC bulk-insert paths, so every turnover and work order id
+ * comes from the same sequence.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    /** Unix millis << 12 | sequence of the last id handed out */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -10,18 +10,35 @@ import java.util.UUID;
 public class Turnover {
 
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
     private String propertyId;
 
+    /**
+     * Equals propertyId while the turnover is IN_PROGRESS, null afterwards. The unique constraint
+     * allows many nulls, so it acts as a partial unique index on (propertyId) where IN_PROGRESS —
+     * at most one active turnover per property, even across application instances.
+     */
+    @Column(unique = true)
+    private String activePropertyId;
+
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
 
     @Enumerated(EnumType.STRING)
     private TurnoverStatus status;
 
+    /**
+     * Work order types not yet completed, as a bitmask of WorkOrderType.bit().
+     * Starts with every type set; the turnover is complete when it reaches 0.
+     */
+    private int pendingWorkOrderTypes;
+
+    @Version
+    private Long version;
+
     public UUID getId() {
         return id;
     }
@@ -34,6 +51,14 @@ public class Turnover {
         this.propertyId = propertyId;
     }
 
+    public String getActivePropertyId() {
+        return activePropertyId;
+    }
+
+    public void setActivePropertyId(String activePropertyId) {
+        this.activePropertyId = activePropertyId;
+    }
+
     public LocalDateTime getStartedAt() {
         return startedAt;
     }
@@ -57,4 +82,16 @@ public class Turnover {
     public void setStatus(TurnoverStatus status) {
         this.status = status;
     }
+
+    public int getPendingWorkOrderTypes() {
+        return pendingWorkOrderTypes;
+    }
+
+    public void setPendingWorkOrderTypes(int pendingWorkOrderTypes) {
+        this.pendingWorkOrderTypes = pendingWorkOrderTypes;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
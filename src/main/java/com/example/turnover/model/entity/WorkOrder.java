@@ -11,7 +11,7 @@ import java.util.UUID;
 public class WorkOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     private UUID turnoverId;
@@ -26,6 +26,9 @@ public class WorkOrder {
     private LocalDateTime slaDeadline;
     private LocalDateTime completedAt;
 
+    /** The missed SLA deadline, set when the breach is published; null while within SLA (or completed in time) */
+    private LocalDateTime slaBreachedAt;
+
     public UUID getId() {
         return id;
     }
@@ -81,4 +84,12 @@ public class WorkOrder {
     public void setCompletedAt(LocalDateTime completedAt) {
         this.completedAt = completedAt;
     }
+
+    public LocalDateTime getSlaBreachedAt() {
+        return slaBreachedAt;
+    }
+
+    public void setSlaBreachedAt(LocalDateTime slaBreachedAt) {
+        this.slaBreachedAt = slaBreachedAt;
+    }
 }
\ No newline at end of file
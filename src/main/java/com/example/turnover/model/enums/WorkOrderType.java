@@ -16,4 +16,14 @@ public enum WorkOrderType {
     public int getSlaHours() {
         return slaHours;
     }
+
+    /** This type's bit in a work-order-type bitmask (see Turnover.pendingWorkOrderTypes) */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /** Bitmask with every work order type set — all still outstanding */
+    public static int allBits() {
+        return (1 << values().length) - 1;
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.turnover.readmodel;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serialized KPI reports of completed turnovers, ready to be written to the response as they are.
+ *
+ * A completed turnover's report never changes, so an entry never goes stale and needs no invalidation
+ * — only a {@link TurnoverKpiProjection#rebuild()} (which may correct rows) clears the cache. Bounded
+ * to turnover.kpi.cache.max-entries, least recently used evicted first.
+ */
+@Component
+public class CompletedKpiCache {
+
+    /** Response body and its strong ETag */
+    public record Entry(byte[] json, String etag) {
+    }
+
+    /** Guarded by this */
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    public CompletedKpiCache(@Value("${turnover.kpi.cache.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Strong ETag of a completed turnover's report: its id and the version it completed at */
+    public static String etag(UUID turnoverId, long version) {
+        return "\"" + turnoverId + "-" + version + "\"";
+    }
+
+    public synchronized Entry get(UUID turnoverId) {
+        return entries.get(turnoverId);
+    }
+
+    public synchronized void put(UUID turnoverId, Entry entry) {
+        entries.put(turnoverId, entry);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.turnover.readmodel;
+
+import com.example.turnover.events.TenantMovedOutEvent;
+import com.example.turnover.events.TurnoverReadyForMoveInEvent;
+import com.example.turnover.events.WorkOrderCompletedEvent;
+import com.example.turnover.model.dto.TurnoverKpi;
+import com.example.turnover.model.dto.WorkOrderKpi;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.KpiCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Read model behind GET /turnovers/{id}/kpi: one denormalized turnover_kpi row per turnover, so a
+ * report is a primary-key lookup instead of a turnover load plus a work order query.
+ *
+ * The row is re-projected from turnover and work_order (one MERGE) whenever the pipeline moves the
+ * turnover on — tenant.moved-out, workorder.completed and property.ready-for-move-in. These listeners
+ * run after the pipeline consumers of the same event, so they see the work orders those created.
+ * Hours of completed steps (and of a completed turnover) are stored; only open steps and the elapsed
+ * time of an open turnover are measured against "now" when read. A completed turnover is served
+ * entirely from its row.
+ *
+ * Re-projecting reads the current state, so a redelivered or reordered event is harmless; a refresh
+ * never replaces a row projected from a newer turnover version. {@link #rebuild()} recreates the
+ * table from scratch, e.g. after rows were written outside the pipeline.
+ */
+@Component
+public class TurnoverKpiProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(TurnoverKpiProjection.class);
+
+    private static final List<String> TURNOVER_COLUMNS = List.of(
+            "turnover_id", "property_id", "status", "started_at", "completed_at", "cycle_time_hours", "turnover_version");
+    private static final List<String> STEP_COLUMNS = List.of(
+            "status", "sla_deadline", "started_at", "completed_at", "actual_hours");
+
+    private static final String COLUMNS = columns();
+    private static final String SOURCE = source();
+    private static final String REFRESH = refresh();
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final KpiCalculator kpiCalculator;
+    private final CompletedKpiCache completedCache;
+
+    public TurnoverKpiProjection(JdbcTemplate jdbc,
+                                 TransactionTemplate transactionTemplate,
+                                 KpiCalculator kpiCalculator,
+                                 CompletedKpiCache completedCache) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.kpiCalculator = kpiCalculator;
+        this.completedCache = completedCache;
+    }
+
+    public record Rebuild(int turnovers, long millis) {
+    }
+
+    /** A report and the turnover version its row was projected from */
+    public record Projected(TurnoverKpi kpi, long turnoverVersion) {
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTenantMovedOut(TenantMovedOutEvent event) {
+        refresh(event.getTurnoverId());
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onWorkOrderCompleted(WorkOrderCompletedEvent event) {
+        refresh(event.getTurnoverId());
+    }
+
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTurnoverReadyForMoveIn(TurnoverReadyForMoveInEvent event) {
+        refresh(event.getTurnoverId());
+    }
+
+    public void refresh(UUID turnoverId) {
+        jdbc.update(REFRESH, turnoverId);
+    }
+
+    /** Projects many turnovers in one JDBC batch — for writers that bypass the pipeline, like the history simulator */
+    public void refreshAll(Collection<UUID> turnoverIds) {
+        List<Object[]> args = new ArrayList<>(turnoverIds.size());
+        for (UUID id : turnoverIds) {
+            args.add(new Object[]{id});
+        }
+        jdbc.batchUpdate(REFRESH, args);
+    }
+
+    /** Recreates every row from turnover and work_order in one transaction; readers never see an empty table */
+    public Rebuild rebuild() {
+        long start = System.nanoTime();
+        Integer rows = transactionTemplate.execute(status -> {
+            jdbc.update("DELETE FROM turnover_kpi");
+            return jdbc.update("INSERT INTO turnover_kpi (" + COLUMNS + ") " + SOURCE);
+        });
+        completedCache.clear();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("[KPI PROJECTION] rebuilt {} rows in {}ms", rows, millis);
+        return new Rebuild(rows, millis);
+    }
+
+    /** KPI report from the projected row, with open steps measured against now; empty if the turnover has no row */
+    public Optional<Projected> find(UUID turnoverId, LocalDateTime now) {
+        return jdbc.query("SELECT * FROM turnover_kpi WHERE turnover_id = ?", (rs, n) -> toProjected(rs, now), turnoverId)
+                .stream()
+                .findFirst();
+    }
+
+    private Projected toProjected(ResultSet rs, LocalDateTime now) throws SQLException {
+        List<WorkOrderKpi> workOrders = new ArrayList<>(WorkOrderType.values().length);
+        for (WorkOrderType type : WorkOrderType.values()) {
+            String prefix = prefix(type);
+            String status = rs.getString(prefix + "status");
+            if (status == null) {
+                continue;
+            }
+            LocalDateTime completedAt = rs.getObject(prefix + "completed_at", LocalDateTime.class);
+            long actualHours = completedAt != null
+                    ? rs.getLong(prefix + "actual_hours")
+                    : Duration.between(rs.getObject(prefix + "started_at", LocalDateTime.class), now).toHours();
+            workOrders.add(kpiCalculator.workOrderKpi(type, WorkOrderStatus.valueOf(status), actualHours,
+                    rs.getObject(prefix + "sla_deadline", LocalDateTime.class), completedAt));
+        }
+
+        long cycleTimeHours = rs.getObject("completed_at") != null
+                ? rs.getLong("cycle_time_hours")
+                : Duration.between(rs.getObject("started_at", LocalDateTime.class), now).toHours();
+        TurnoverKpi kpi = kpiCalculator.turnoverKpi(
+                rs.getString("property_id"),
+                rs.getObject("turnover_id", UUID.class),
+                TurnoverStatus.valueOf(rs.getString("status")),
+                cycleTimeHours,
+                workOrders);
+        return new Projected(kpi, rs.getLong("turnover_version"));
+    }
+
+    private static String prefix(WorkOrderType type) {
+        return type.name().toLowerCase() + "_";
+    }
+
+    private static String columns() {
+        StringJoiner columns = new StringJoiner(", ");
+        TURNOVER_COLUMNS.forEach(columns::add);
+        for (WorkOrderType type : WorkOrderType.values()) {
+            for (String column : STEP_COLUMNS) {
+                columns.add(prefix(type) + column);
+            }
+        }
+        return columns.toString();
+    }
+
+    /** One row per turnover; hours are truncated to whole hours like Duration.toHours() and set only once complete */
+    private static String source() {
+        StringBuilder sql = new StringBuilder("""
+                SELECT t.id AS turnover_id, t.property_id, t.status, t.started_at, t.completed_at,
+                       CASE WHEN t.completed_at IS NOT NULL
+                            THEN DATEDIFF(SECOND, t.started_at, t.completed_at) / 3600 END AS cycle_time_hours,
+                       t.version AS turnover_version""");
+        StringBuilder joins = new StringBuilder("\nFROM turnover t");
+        for (WorkOrderType type : WorkOrderType.values()) {
+            String w = "w_" + type.name().toLowerCase();
+            String p = prefix(type);
+            sql.append(",\n       ")
+                    .append(w).append(".status AS ").append(p).append("status, ")
+                    .append(w).append(".sla_deadline AS ").append(p).append("sla_deadline, ")
+                    .append(w).append(".started_at AS ").append(p).append("started_at, ")
+                    .append(w).append(".completed_at AS ").append(p).append("completed_at, ")
+                    .append("CASE WHEN ").append(w).append(".completed_at IS NOT NULL THEN DATEDIFF(SECOND, ")
+                    .append(w).append(".started_at, ").append(w).append(".completed_at) / 3600 END AS ")
+                    .append(p).append("actual_hours");
+            joins.append("\nLEFT JOIN work_order ").append(w).append(" ON ")
+                    .append(w).append(".turnover_id = t.id AND ").append(w).append(".type = '").append(type.name()).append("'");
+        }
+        return sql.append(joins).toString();
+    }
+
+    private static String refresh() {
+        StringJoiner updates = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        for (String name : COLUMNS.split(", ")) {
+            values.add("s." + name);
+            if (!name.equals("turnover_id")) {
+                updates.add(name + " = s." + name);
+            }
+        }
+        return "MERGE INTO turnover_kpi k USING (" + SOURCE + "\nWHERE t.id = ?) s ON k.turnover_id = s.turnover_id"
+                + " WHEN MATCHED AND k.turnover_version <= s.turnover_version THEN UPDATE SET " + updates
+                + " WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (" + values + ")";
+    }
+}
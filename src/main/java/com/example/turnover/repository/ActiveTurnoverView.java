@@ -0,0 +1,10 @@
+package com.example.turnover.repository;
+
+import java.util.UUID;
+
+/** (propertyId, turnoverId) pair of a turnover that is still in progress */
+public interface ActiveTurnoverView {
+    String getPropertyId();
+
+    UUID getTurnoverId();
+}
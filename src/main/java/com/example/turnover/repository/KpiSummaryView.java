@@ -0,0 +1,13 @@
+package com.example.turnover.repository;
+
+/** Single-row projection returned by {@link TurnoverRepository#summarize(int)} */
+public interface KpiSummaryView {
+
+    Long getTotalTurnovers();
+
+    Long getCompletedTurnovers();
+
+    Long getCycleHoursSum();
+
+    Long getWithinTargetCount();
+}
@@ -0,0 +1,62 @@
+package com.example.turnover.repository;
+
+import com.example.turnover.model.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest live rows that are unclaimed or whose lease has expired, skipping rows of a partition that
+     * still has an earlier row under lease — a failed event holds back only its own partition.
+     */
+    @Query("""
+            select o.id from OutboxEvent o
+            where o.deadLetteredAt is null
+              and (o.claimedAt is null or o.claimedAt < :leaseExpiredBefore)
+              and not exists (select 1 from OutboxEvent p
+                              where p.partitionKey = o.partitionKey and p.id < o.id
+                                and p.deadLetteredAt is null and p.claimedAt >= :leaseExpiredBefore)
+            order by o.id
+            """)
+    List<Long> findClaimableIds(@Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore, Limit limit);
+
+    /**
+     * Conditional claim — emulates SELECT ... FOR UPDATE SKIP LOCKED, which H2 lacks. Rows another
+     * relay claimed since {@link #findClaimableIds} no longer match the predicate and are skipped.
+     */
+    @Modifying
+    @Query("""
+            update OutboxEvent o set o.claimedBy = :relayId, o.claimedAt = :now
+            where o.id in :ids and o.deadLetteredAt is null
+              and (o.claimedAt is null or o.claimedAt < :leaseExpiredBefore)
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("relayId") String relayId,
+              @Param("now") LocalDateTime now,
+              @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore);
+
+    /** Counts a failed delivery; the rows keep their lease, so they are retried once it expires */
+    @Modifying
+    @Query("update OutboxEvent o set o.attempts = o.attempts + 1 where o.id in :ids")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids);
+
+    /** Parks the given rows that have used up their attempts; returns how many were parked */
+    @Modifying
+    @Query("""
+            update OutboxEvent o set o.deadLetteredAt = :now
+            where o.id in :ids and o.attempts >= :maxAttempts and o.deadLetteredAt is null
+            """)
+    int deadLetter(@Param("ids") Collection<Long> ids,
+                   @Param("maxAttempts") int maxAttempts,
+                   @Param("now") LocalDateTime now);
+
+    List<OutboxEvent> findByClaimedByAndIdInOrderByIdAsc(String claimedBy, Collection<Long> ids);
+}
@@ -0,0 +1,17 @@
+package com.example.turnover.repository;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** The fields of an open work order the SLA breach detector needs to schedule it */
+public interface SlaWatchView {
+    UUID getId();
+
+    UUID getTurnoverId();
+
+    WorkOrderType getType();
+
+    LocalDateTime getSlaDeadline();
+}
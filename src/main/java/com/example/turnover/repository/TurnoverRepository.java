@@ -3,10 +3,78 @@ package com.example.turnover.repository;
 import com.example.turnover.model.entity.Turnover;
 import com.example.turnover.model.enums.TurnoverStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TurnoverRepository extends JpaRepository<Turnover, UUID> {
     Optional<Turnover> findByPropertyIdAndStatus(String propertyId, TurnoverStatus status);
+
+    long countByStartedAtAfter(LocalDateTime since);
+
+    /** A turnover's property without loading the entity; used to address change-feed subscribers */
+    @Query("select t.propertyId from Turnover t where t.id = :id")
+    Optional<String> findPropertyIdById(@Param("id") UUID id);
+
+    /** The subset of ids still in the given status; verifies a batch of registry hits in one query */
+    @Query("select t.id from Turnover t where t.id in :ids and t.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") TurnoverStatus status);
+
+    /** Property → turnover pairs only; used to warm and reconcile {@code ActiveTurnoverRegistry} */
+    @Query("select t.propertyId as propertyId, t.id as turnoverId from Turnover t where t.status = :status")
+    List<ActiveTurnoverView> findActiveByStatus(@Param("status") TurnoverStatus status);
+
+    /**
+     * Whole-table KPI aggregate computed by the database and returned as a single row.
+     *
+     * Cycle time is truncated to whole hours (matching Duration.toHours()) and only counts turnovers
+     * that are COMPLETED with a completion timestamp. targetHours is the threshold for withinTargetCount.
+     */
+    @Query(value = """
+            SELECT COUNT(*)                                            AS "totalTurnovers",
+                   COUNT(c.cycle_hours)                                AS "completedTurnovers",
+                   COALESCE(SUM(c.cycle_hours), 0)                     AS "cycleHoursSum",
+                   COUNT(CASE WHEN c.cycle_hours <= :targetHours THEN 1 END) AS "withinTargetCount"
+            FROM (SELECT CASE WHEN t.status = 'COMPLETED' AND t.completed_at IS NOT NULL
+                              THEN DATEDIFF(SECOND, t.started_at, t.completed_at) / 3600
+                         END AS cycle_hours
+                  FROM turnover t) c
+            """, nativeQuery = true)
+    KpiSummaryView summarize(@Param("targetHours") int targetHours);
+
+    /**
+     * Atomically marks one work order type as done. Returns 1 only for the call that actually clears
+     * the bit — 0 means it was already cleared (duplicate delivery). Concurrent completions of
+     * different types serialize on the row lock, so none is lost.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE turnover
+               SET pending_work_order_types = BITAND(pending_work_order_types, :remainingMask),
+                   version = version + 1
+             WHERE id = :id AND BITAND(pending_work_order_types, :typeBit) <> 0
+            """, nativeQuery = true)
+    int clearPendingType(@Param("id") UUID id, @Param("typeBit") int typeBit, @Param("remainingMask") int remainingMask);
+
+    /**
+     * IN_PROGRESS → COMPLETED once nothing is pending. Returns 1 for exactly one caller, so the
+     * ready-for-move-in event is published once even when the last two work orders finish together.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Turnover t
+               set t.status = :completed, t.completedAt = :completedAt, t.activePropertyId = null,
+                   t.version = t.version + 1
+             where t.id = :id and t.pendingWorkOrderTypes = 0 and t.status = :inProgress
+            """)
+    int completeIfNoPendingWorkOrders(@Param("id") UUID id,
+                                      @Param("completedAt") LocalDateTime completedAt,
+                                      @Param("completed") TurnoverStatus completed,
+                                      @Param("inProgress") TurnoverStatus inProgress);
 }
@@ -1,11 +1,54 @@
 package com.example.turnover.repository;
 
 import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface WorkOrderRepository extends JpaRepository<WorkOrder, UUID> {
     List<WorkOrder> findByTurnoverId(UUID turnoverId);
-}
\ No newline at end of file
+
+    List<WorkOrder> findByTurnoverIdIn(Collection<UUID> turnoverIds);
+
+    boolean existsByTurnoverIdAndType(UUID turnoverId, WorkOrderType type);
+
+    Optional<WorkOrder> findByTurnoverIdAndType(UUID turnoverId, WorkOrderType type);
+
+    /** Durations (seconds) of the most recent completed work orders of one type — forecast input */
+    @Query(value = """
+            SELECT DATEDIFF(SECOND, started_at, completed_at)
+              FROM work_order
+             WHERE type = :type AND status = 'COMPLETED' AND completed_at IS NOT NULL
+             ORDER BY completed_at DESC
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findRecentDurationSeconds(@Param("type") String type, @Param("limit") int limit);
+
+    /**
+     * Every open work order whose breach has not been published yet — loaded once at startup.
+     * Open statuses are listed (rather than "not COMPLETED") so idx_work_order_status_deadline applies.
+     */
+    @Query("""
+            select w.id as id, w.turnoverId as turnoverId, w.type as type, w.slaDeadline as slaDeadline
+              from WorkOrder w
+             where w.status in :open and w.slaBreachedAt is null and w.slaDeadline is not null
+            """)
+    List<SlaWatchView> findSlaWatchlist(@Param("open") Collection<WorkOrderStatus> open);
+
+    /** The subset of ids that is still open and not yet flagged as breached */
+    @Query("select w.id from WorkOrder w where w.id in :ids and w.status <> :completed and w.slaBreachedAt is null")
+    List<UUID> findUnbreachedOpenIds(@Param("ids") Collection<UUID> ids, @Param("completed") WorkOrderStatus completed);
+
+    /** Flags the ids as breached at their deadline, the same value history imports store */
+    @Modifying
+    @Query("update WorkOrder w set w.slaBreachedAt = w.slaDeadline where w.id in :ids")
+    int markSlaBreached(@Param("ids") Collection<UUID> ids);
+}
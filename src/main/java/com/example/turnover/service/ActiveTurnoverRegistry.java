@@ -0,0 +1,152 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.repository.ActiveTurnoverView;
+import com.example.turnover.repository.TurnoverRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory index of the turnover in progress for each property, so the move-out existence check
+ * needs no database round trip.
+ *
+ * Warmed from the database once the application is ready, then maintained by the pipeline:
+ *   move-out committed    → register(property, turnover)
+ *   completion committed  → release(property, turnover)
+ * Both apply after the surrounding transaction commits, never for a rolled-back one.
+ *
+ * The index is a cache, not the source of truth — the unique active-property constraint is.
+ * Whenever the two disagree (a stale hit, a miss rejected by the constraint, a reconcile
+ * correction) the index is repaired and the disagreement counted as drift.
+ *
+ * With turnover.registry.verify=true every lookup is also checked against the database
+ * (costs the query the index exists to avoid — for diagnosing drift, not for production).
+ */
+@Component
+public class ActiveTurnoverRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveTurnoverRegistry.class);
+
+    private final ConcurrentHashMap<String, UUID> byProperty = new ConcurrentHashMap<>();
+    private final TurnoverRepository turnoverRepository;
+    private final boolean verify;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder drift = new LongAdder();
+
+    public ActiveTurnoverRegistry(TurnoverRepository turnoverRepository,
+                                  @Value("${turnover.registry.verify:false}") boolean verify) {
+        this.turnoverRepository = turnoverRepository;
+        this.verify = verify;
+    }
+
+    public record Stats(int activeTurnovers, long hits, long misses, double hitRate, long drift, boolean verify) {
+    }
+
+    /** Outcome of a full comparison against the database; every mismatch found was also corrected */
+    public record Reconciliation(int databaseActive, int missing, int stale) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        List<ActiveTurnoverView> active = turnoverRepository.findActiveByStatus(TurnoverStatus.IN_PROGRESS);
+        for (ActiveTurnoverView view : active) {
+            byProperty.putIfAbsent(view.getPropertyId(), view.getTurnoverId());
+        }
+        log.info("[REGISTRY] warmed with {} active turnovers", active.size());
+    }
+
+    /** Id of the turnover in progress for the property, or null */
+    public UUID find(String propertyId) {
+        UUID turnoverId = byProperty.get(propertyId);
+        if (turnoverId != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        if (verify) {
+            UUID actual = turnoverRepository.findByPropertyIdAndStatus(propertyId, TurnoverStatus.IN_PROGRESS)
+                    .map(Turnover::getId)
+                    .orElse(null);
+            if (!Objects.equals(turnoverId, actual)) {
+                repair(propertyId, actual);
+                return actual;
+            }
+        }
+        return turnoverId;
+    }
+
+    public void register(String propertyId, UUID turnoverId) {
+        TransactionCallbacks.afterCommit(() -> byProperty.put(propertyId, turnoverId));
+    }
+
+    public void release(String propertyId, UUID turnoverId) {
+        TransactionCallbacks.afterCommit(() -> byProperty.remove(propertyId, turnoverId));
+    }
+
+    /** Replaces the entry for a property with what the database says (null: nothing in progress) */
+    public void repair(String propertyId, UUID actualTurnoverId) {
+        drift.increment();
+        log.warn("[REGISTRY] drift for property {}: registry={} database={}",
+                propertyId, byProperty.get(propertyId), actualTurnoverId);
+        if (actualTurnoverId == null) {
+            byProperty.remove(propertyId);
+        } else {
+            byProperty.put(propertyId, actualTurnoverId);
+        }
+    }
+
+    /**
+     * Compares the whole index with the database and corrects it. The index is copied before the
+     * query, so a turnover registered meanwhile is never reported stale; one completed meanwhile
+     * may be, and removing it is correct anyway.
+     */
+    public Reconciliation reconcile() {
+        Map<String, UUID> registered = new HashMap<>(byProperty);
+        Map<String, UUID> actual = new HashMap<>();
+        for (ActiveTurnoverView view : turnoverRepository.findActiveByStatus(TurnoverStatus.IN_PROGRESS)) {
+            actual.put(view.getPropertyId(), view.getTurnoverId());
+        }
+
+        int missing = 0;
+        int stale = 0;
+        for (Map.Entry<String, UUID> entry : registered.entrySet()) {
+            if (!entry.getValue().equals(actual.get(entry.getKey()))) {
+                byProperty.remove(entry.getKey(), entry.getValue());
+                stale++;
+            }
+        }
+        for (Map.Entry<String, UUID> entry : actual.entrySet()) {
+            if (!entry.getValue().equals(registered.get(entry.getKey()))) {
+                byProperty.put(entry.getKey(), entry.getValue());
+                missing++;
+            }
+        }
+        drift.add(missing + stale);
+        if (missing + stale > 0) {
+            log.warn("[REGISTRY] reconciled: {} missing, {} stale", missing, stale);
+        }
+        return new Reconciliation(actual.size(), missing, stale);
+    }
+
+    public Stats stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        double hitRate = h + m == 0 ? 0.0 : (double) h / (h + m);
+        return new Stats(byProperty.size(), h, m, hitRate, drift.sum(), verify);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.turnover.service;
+
+import com.example.turnover.changes.TurnoverChangeFeed;
+import com.example.turnover.events.TenantMovedOutEvent;
+import com.example.turnover.events.TurnoverEventPublisher;
+import com.example.turnover.model.dto.MoveOutLine;
+import com.example.turnover.model.dto.MoveOutResult;
+import com.example.turnover.model.entity.TimeOrderedUuidGenerator;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.TurnoverRepository;
+import com.example.turnover.sla.SlaBreachDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk move-out ingestion behind POST /turnovers/moveouts, one chunk of NDJSON lines at a time.
+ *
+ * Per chunk, lines are parsed and deduplicated — against earlier lines of the chunk and against
+ * {@link ActiveTurnoverRegistry}, whose hits are verified together in one query (stale entries are
+ * repaired and their move-outs accepted) — and the remaining move-outs are written in a single
+ * transaction: a JDBC batch of turnovers and one of their INSPECTION work orders.
+ * The registry, the SLA detector and tenant.moved-out are then updated exactly as by a single move-out;
+ * the INSPECTION consumer finds its work order already there and skips it.
+ *
+ * A turnover the registry missed is caught by the unique active-property constraint, which rolls the
+ * chunk back; its move-outs are then replayed one by one through {@link TurnoverService#handleMoveOut}.
+ */
+@Service
+public class BulkMoveOutService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkMoveOutService.class);
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final TurnoverRepository turnoverRepository;
+    private final TurnoverService turnoverService;
+    private final ActiveTurnoverRegistry registry;
+    private final SlaBreachDetector slaBreachDetector;
+    private final TurnoverEventPublisher publisher;
+    private final JsonMapper jsonMapper;
+    private final PipelineMetrics metrics;
+    private final TurnoverChangeFeed changeFeed;
+    private final KpiSummaryAggregator summaryAggregator;
+
+    public BulkMoveOutService(JdbcTemplate jdbc,
+                              TransactionTemplate transactionTemplate,
+                              TurnoverRepository turnoverRepository,
+                              TurnoverService turnoverService,
+                              ActiveTurnoverRegistry registry,
+                              SlaBreachDetector slaBreachDetector,
+                              TurnoverEventPublisher publisher,
+                              JsonMapper jsonMapper,
+                              PipelineMetrics metrics,
+                              TurnoverChangeFeed changeFeed,
+                              KpiSummaryAggregator summaryAggregator) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.turnoverRepository = turnoverRepository;
+        this.turnoverService = turnoverService;
+        this.registry = registry;
+        this.slaBreachDetector = slaBreachDetector;
+        this.publisher = publisher;
+        this.jsonMapper = jsonMapper;
+        this.metrics = metrics;
+        this.changeFeed = changeFeed;
+        this.summaryAggregator = summaryAggregator;
+    }
+
+    private record Accepted(int index, long line, String propertyId, LocalDateTime movedOutAt, UUID turnoverId) {
+    }
+
+    private record Duplicate(int index, long line, String propertyId, int firstIndex) {
+    }
+
+    /** A move-out the registry says is already in progress, until the database confirms it */
+    private record RegistryHit(int index, long line, String propertyId, LocalDateTime movedOutAt, UUID turnoverId) {
+    }
+
+    /**
+     * Ingests one chunk of raw NDJSON lines, the first of which is line number firstLine of the body.
+     * Returns one result per non-blank line, in input order.
+     */
+    public List<MoveOutResult> ingest(List<String> lines, long firstLine) {
+        MoveOutResult[] results = new MoveOutResult[lines.size()];
+        Map<String, Integer> firstIndexByProperty = new HashMap<>();
+        List<Accepted> accepted = new ArrayList<>();
+        List<Duplicate> duplicates = new ArrayList<>();
+        List<RegistryHit> hits = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i);
+            long line = firstLine + i;
+            if (text.isBlank()) {
+                continue;
+            }
+            MoveOutLine moveOut;
+            try {
+                moveOut = jsonMapper.readValue(text, MoveOutLine.class);
+            } catch (JacksonException e) {
+                results[i] = MoveOutResult.invalid(line, null, "malformed line: " + e.getOriginalMessage());
+                continue;
+            }
+            String propertyId = moveOut != null ? moveOut.propertyId() : null;
+            if (propertyId == null || propertyId.isBlank()) {
+                results[i] = MoveOutResult.invalid(line, propertyId, "propertyId is required");
+                continue;
+            }
+
+            Integer firstIndex = firstIndexByProperty.putIfAbsent(propertyId, i);
+            if (firstIndex != null) {
+                duplicates.add(new Duplicate(i, line, propertyId, firstIndex));
+                continue;
+            }
+            LocalDateTime movedOutAt = moveOut.movedOutAt() != null ? moveOut.movedOutAt() : now;
+            UUID active = registry.find(propertyId);
+            if (active != null) {
+                hits.add(new RegistryHit(i, line, propertyId, movedOutAt, active));
+                continue;
+            }
+            accepted.add(new Accepted(i, line, propertyId, movedOutAt, TimeOrderedUuidGenerator.next()));
+        }
+        verify(hits, results, accepted);
+
+        if (!accepted.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(accepted));
+                for (Accepted a : accepted) {
+                    results[a.index()] = MoveOutResult.created(a.line(), a.propertyId(), a.turnoverId());
+                }
+            } catch (DataIntegrityViolationException e) {
+                log.warn("[BULK] lines {}-{} hit a turnover already in progress — retrying them one by one",
+                        firstLine, firstLine + lines.size() - 1);
+                for (Accepted a : accepted) {
+                    results[a.index()] = moveOutOneByOne(a);
+                }
+            }
+        }
+        for (Duplicate d : duplicates) {
+            results[d.index()] = MoveOutResult.alreadyActive(d.line(), d.propertyId(), results[d.firstIndex()].turnoverId());
+        }
+
+        List<MoveOutResult> ordered = new ArrayList<>(lines.size());
+        int created = 0;
+        for (MoveOutResult result : results) {
+            if (result == null) continue;
+            ordered.add(result);
+            if (result.status() == MoveOutResult.Status.CREATED) created++;
+        }
+        log.info("[BULK] lines {}-{}: {} of {} move-outs created", firstLine, firstLine + lines.size() - 1, created, ordered.size());
+        return ordered;
+    }
+
+    /**
+     * Confirms the chunk's registry hits against the database in one query. A confirmed hit is reported
+     * as already active; a stale one (turnover completed or gone) is repaired and its move-out accepted.
+     */
+    private void verify(List<RegistryHit> hits, MoveOutResult[] results, List<Accepted> accepted) {
+        if (hits.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(hits.size());
+        for (RegistryHit hit : hits) {
+            ids.add(hit.turnoverId());
+        }
+        Set<UUID> inProgress = new HashSet<>(turnoverRepository.findIdsByIdInAndStatus(ids, TurnoverStatus.IN_PROGRESS));
+        for (RegistryHit hit : hits) {
+            if (inProgress.contains(hit.turnoverId())) {
+                results[hit.index()] = MoveOutResult.alreadyActive(hit.line(), hit.propertyId(), hit.turnoverId());
+            } else {
+                registry.repair(hit.propertyId(), null);
+                accepted.add(new Accepted(hit.index(), hit.line(), hit.propertyId(), hit.movedOutAt(),
+                        TimeOrderedUuidGenerator.next()));
+            }
+        }
+    }
+
+    private void insert(List<Accepted> accepted) {
+        List<Object[]> turnovers = new ArrayList<>(accepted.size());
+        List<Object[]> workOrders = new ArrayList<>(accepted.size());
+        List<WorkOrder> inspections = new ArrayList<>(accepted.size());
+        for (Accepted a : accepted) {
+            WorkOrder inspection = new WorkOrder();
+            inspection.setId(TimeOrderedUuidGenerator.next());
+            inspection.setTurnoverId(a.turnoverId());
+            inspection.setType(WorkOrderType.INSPECTION);
+            inspection.setStatus(WorkOrderStatus.PENDING);
+            inspection.setStartedAt(a.movedOutAt());
+            inspection.setSlaDeadline(a.movedOutAt().plusHours(WorkOrderType.INSPECTION.getSlaHours()));
+            inspections.add(inspection);
+
+            turnovers.add(new Object[]{a.turnoverId(), a.propertyId(), a.propertyId(), ts(a.movedOutAt()),
+                    TurnoverStatus.IN_PROGRESS.name(), WorkOrderType.allBits()});
+            workOrders.add(new Object[]{inspection.getId(), a.turnoverId(), WorkOrderType.INSPECTION.name(),
+                    WorkOrderStatus.PENDING.name(), ts(inspection.getStartedAt()), ts(inspection.getSlaDeadline())});
+        }
+
+        jdbc.batchUpdate("""
+                INSERT INTO turnover (id, property_id, active_property_id, started_at, status, pending_work_order_types, version)
+                VALUES (?, ?, ?, ?, ?, ?, 0)
+                """, turnovers);
+        jdbc.batchUpdate("""
+                INSERT INTO work_order (id, turnover_id, type, status, started_at, sla_deadline)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, workOrders);
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Accepted a = accepted.get(i);
+            registry.register(a.propertyId(), a.turnoverId());
+            slaBreachDetector.watch(inspections.get(i));
+            changeFeed.workOrderCreated(inspections.get(i), a.propertyId());
+            publisher.publish(new TenantMovedOutEvent(a.propertyId(), a.turnoverId(), a.movedOutAt()));
+        }
+        summaryAggregator.turnoversStarted(accepted.size());
+        TransactionCallbacks.afterCommit(() -> metrics.workOrderCreated(WorkOrderType.INSPECTION, accepted.size()));
+    }
+
+    private MoveOutResult moveOutOneByOne(Accepted a) {
+        Turnover active = turnoverRepository.findByPropertyIdAndStatus(a.propertyId(), TurnoverStatus.IN_PROGRESS)
+                .orElse(null);
+        if (active != null) {
+            registry.repair(a.propertyId(), active.getId());
+            return MoveOutResult.alreadyActive(a.line(), a.propertyId(), active.getId());
+        }
+        Turnover turnover = turnoverService.handleMoveOut(a.propertyId(), a.movedOutAt());
+        return MoveOutResult.created(a.line(), a.propertyId(), turnover.getId());
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+}
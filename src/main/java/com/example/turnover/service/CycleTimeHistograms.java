@@ -0,0 +1,52 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory cycle-time distributions since application start: one for whole turnovers and one per
+ * work order type. Fed by WorkOrderService.complete and TurnoverService's completion check; read by
+ * GET /turnovers/kpi/percentiles to expose the long tail the average hides. Every sample is also
+ * passed on to {@link PipelineMetrics}. Callers record after commit, so a rolled-back completion
+ * leaves no sample.
+ */
+@Component
+public class CycleTimeHistograms {
+
+    private final DurationHistogram turnoverCycleTime = new DurationHistogram();
+    private final Map<WorkOrderType, DurationHistogram> workOrderDurations = new EnumMap<>(WorkOrderType.class);
+    private final PipelineMetrics metrics;
+
+    public CycleTimeHistograms(PipelineMetrics metrics) {
+        this.metrics = metrics;
+        for (WorkOrderType type : WorkOrderType.values()) {
+            workOrderDurations.put(type, new DurationHistogram());
+        }
+    }
+
+    public void recordTurnover(LocalDateTime startedAt, LocalDateTime completedAt) {
+        turnoverCycleTime.record(ChronoUnit.SECONDS.between(startedAt, completedAt));
+        metrics.turnoverCompleted(startedAt, completedAt);
+    }
+
+    public void recordWorkOrder(WorkOrderType type, LocalDateTime startedAt, LocalDateTime completedAt) {
+        workOrderDurations.get(type).record(ChronoUnit.SECONDS.between(startedAt, completedAt));
+        metrics.workOrderCompleted(type, startedAt, completedAt);
+    }
+
+    public DurationHistogram.Summary turnoverSummary() {
+        return turnoverCycleTime.summary();
+    }
+
+    public Map<WorkOrderType, DurationHistogram.Summary> workOrderSummaries() {
+        Map<WorkOrderType, DurationHistogram.Summary> result = new LinkedHashMap<>();
+        workOrderDurations.forEach((type, histogram) -> result.put(type, histogram.summary()));
+        return result;
+    }
+}
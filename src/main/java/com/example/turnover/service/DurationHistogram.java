@@ -0,0 +1,106 @@
+package com.example.turnover.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory, log-bucketed histogram of durations in seconds (HdrHistogram-style layout).
+ *
+ * Values below 32s get their own bucket; above that every power-of-two range is split into 32
+ * linear sub-buckets, so any reported percentile is within ~3% of the true value. Up to one year
+ * is tracked in 672 buckets; longer durations are clamped.
+ *
+ * {@link #record(long)} is lock-free and allocation-free (one atomic increment plus a rarely
+ * contended max update), so it can sit on the work-order completion hot path.
+ */
+public final class DurationHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE_SECONDS = 366L * 24 * 3600;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(MAX_TRACKABLE_SECONDS) + 1);
+    private final AtomicLong maxSeconds = new AtomicLong();
+
+    /** Percentile summary in hours, rounded to one decimal */
+    public record Summary(long count, Double p50Hours, Double p90Hours, Double p99Hours, Double maxHours) {
+    }
+
+    public void record(long seconds) {
+        long value = Math.min(Math.max(seconds, 0), MAX_TRACKABLE_SECONDS);
+        counts.incrementAndGet(bucketIndex(value));
+        long max;
+        while (value > (max = maxSeconds.get()) && !maxSeconds.compareAndSet(max, value)) {
+            // retry until our value is recorded or a larger one wins
+        }
+    }
+
+    /** Adds every value recorded in other to this histogram (e.g. merging per-thread histograms) */
+    public void add(DurationHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long n = other.counts.get(i);
+            if (n != 0) counts.addAndGet(i, n);
+        }
+        long otherMax = other.maxSeconds.get();
+        long max;
+        while (otherMax > (max = maxSeconds.get()) && !maxSeconds.compareAndSet(max, otherMax)) {
+            // retry until the larger max is recorded
+        }
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Value (seconds) at the given percentile, reported as the upper edge of its bucket
+     * and never above the largest value recorded. Returns 0 when empty.
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = count();
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxSeconds.get());
+            }
+        }
+        return maxSeconds.get();
+    }
+
+    public Summary summary() {
+        long total = count();
+        if (total == 0) return new Summary(0, null, null, null, null);
+        return new Summary(total,
+                toHours(valueAtPercentile(50)),
+                toHours(valueAtPercentile(90)),
+                toHours(valueAtPercentile(99)),
+                toHours(maxSeconds.get()));
+    }
+
+    private static double toHours(long seconds) {
+        return Math.round(seconds / 360.0) / 10.0;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowest = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.dto.TurnoverKpi;
+import com.example.turnover.model.dto.WorkOrderKpi;
+import com.example.turnover.model.entity.Turnover;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.turnover.service.KpiSummaryAggregator.KPI_TARGET_HOURS;
+
+/**
+ * Builds KPI reports from a turnover and its work orders.
+ *
+ * Open turnovers and work orders are measured against the supplied reference time, so a batch of
+ * reports shares one "now". Bottleneck and on-time counts are collected in the same single pass
+ * that builds the per-work-order rows — no intermediate maps or boxed values.
+ */
+@Component
+public class KpiCalculator {
+
+    public TurnoverKpi turnoverKpi(Turnover turnover, List<WorkOrder> orders, LocalDateTime now) {
+        LocalDateTime reference = turnover.getCompletedAt() != null
+                ? turnover.getCompletedAt()
+                : now;
+        long cycleTimeHours = Duration.between(turnover.getStartedAt(), reference).toHours();
+
+        List<WorkOrderKpi> workOrderKpis = new ArrayList<>(orders.size());
+        for (WorkOrder wo : orders) {
+            workOrderKpis.add(workOrderKpi(wo, now));
+        }
+        return turnoverKpi(turnover.getPropertyId(), turnover.getId(), turnover.getStatus(), cycleTimeHours, workOrderKpis);
+    }
+
+    /** Report from already measured parts — the KPI read model supplies stored hours for completed steps */
+    public TurnoverKpi turnoverKpi(String propertyId, UUID turnoverId, TurnoverStatus status,
+                                   long cycleTimeHours, List<WorkOrderKpi> workOrderKpis) {
+        WorkOrderKpi bottleneck = null;
+        int completedOnTime = 0;
+        int totalCompleted = 0;
+
+        for (WorkOrderKpi kpi : workOrderKpis) {
+            if (kpi.overrunHours() > 0 && (bottleneck == null || kpi.overrunHours() > bottleneck.overrunHours())) {
+                bottleneck = kpi;
+            }
+            if (kpi.status() == WorkOrderStatus.COMPLETED) totalCompleted++;
+            if (kpi.onTime()) completedOnTime++;
+        }
+
+        return new TurnoverKpi(
+                propertyId,
+                turnoverId,
+                status,
+                cycleTimeHours,
+                KPI_TARGET_HOURS,
+                cycleTimeHours > KPI_TARGET_HOURS,
+                cycleTimeHours - KPI_TARGET_HOURS,
+                totalCompleted > 0 ? (long) completedOnTime * 100 / totalCompleted : null,
+                bottleneck,
+                Collections.unmodifiableList(workOrderKpis));
+    }
+
+    public WorkOrderKpi workOrderKpi(WorkOrder wo, LocalDateTime now) {
+        LocalDateTime ref = wo.getCompletedAt() != null ? wo.getCompletedAt() : now;
+        long actualHours = Duration.between(wo.getStartedAt(), ref).toHours();
+        return workOrderKpi(wo.getType(), wo.getStatus(), actualHours, wo.getSlaDeadline(), wo.getCompletedAt());
+    }
+
+    public WorkOrderKpi workOrderKpi(WorkOrderType type, WorkOrderStatus status, long actualHours,
+                                     LocalDateTime slaDeadline, LocalDateTime completedAt) {
+        long slaHours = type.getSlaHours();
+        long overrunHours = Math.max(0, actualHours - slaHours);
+        boolean onTime = status == WorkOrderStatus.COMPLETED && overrunHours == 0;
+
+        return new WorkOrderKpi(type, status, slaHours, actualHours, overrunHours, onTime, slaDeadline, completedAt);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.turnover.service;
+
+import com.example.turnover.repository.KpiSummaryView;
+import com.example.turnover.repository.TurnoverRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Running KPI totals across every turnover, so GET /turnovers/kpi/summary is O(1) regardless of history size.
+ *
+ * Rebuilt from the database once the application is ready (after the demo data is seeded) and then
+ * kept current by the writes themselves, once they commit:
+ *   turnover inserted    → one more turnover in progress
+ *   turnover completed   → one more completed turnover, with its cycle time
+ * Both writes happen exactly once per turnover, so redelivered events (the outbox relay is
+ * at-least-once) cannot count a turnover twice.
+ */
+@Component
+public class KpiSummaryAggregator {
+
+    public static final int KPI_TARGET_HOURS = 36;
+
+    private static final Logger log = LoggerFactory.getLogger(KpiSummaryAggregator.class);
+
+    private final TurnoverRepository turnoverRepository;
+
+    private long totalTurnovers;
+    private long completedTurnovers;
+    private long cycleHoursSum;
+    private long withinKpiCount;
+
+    public KpiSummaryAggregator(TurnoverRepository turnoverRepository) {
+        this.turnoverRepository = turnoverRepository;
+    }
+
+    /** Point-in-time copy of the running totals */
+    public record Snapshot(long totalTurnovers, long completedTurnovers, long cycleHoursSum, long withinKpiCount) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        KpiSummaryView view = turnoverRepository.summarize(KPI_TARGET_HOURS);
+        totalTurnovers = view.getTotalTurnovers();
+        completedTurnovers = view.getCompletedTurnovers();
+        cycleHoursSum = view.getCycleHoursSum();
+        withinKpiCount = view.getWithinTargetCount();
+        log.info("[KPI SUMMARY] rebuilt from database: total={} completed={}", totalTurnovers, completedTurnovers);
+    }
+
+    /** Counts turnovers inserted by the current transaction, once it commits */
+    public void turnoversStarted(int count) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                totalTurnovers += count;
+            }
+        });
+    }
+
+    /** Counts a turnover completed by the current transaction, once it commits */
+    public void turnoverCompleted(long cycleHours) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                recordCompletion(cycleHours);
+            }
+        });
+    }
+
+    /**
+     * Registers a turnover that was written straight to the database (e.g. simulated history),
+     * bypassing the event pipeline. completedAt is null for one still in progress.
+     */
+    public synchronized void recordHistorical(LocalDateTime startedAt, LocalDateTime completedAt) {
+        totalTurnovers++;
+        if (completedAt != null) {
+            recordCompletion(Duration.between(startedAt, completedAt).toHours());
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(totalTurnovers, completedTurnovers, cycleHoursSum, withinKpiCount);
+    }
+
+    private void recordCompletion(long cycleHours) {
+        completedTurnovers++;
+        cycleHoursSum += cycleHours;
+        if (cycleHours <= KPI_TARGET_HOURS) withinKpiCount++;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.turnover.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks striped by property id. Move-outs for the same property serialize on the
+ * same stripe; different properties almost always land on different stripes and run in parallel.
+ * Memory stays constant no matter how many properties there are.
+ *
+ * This only coordinates within one JVM — the unique active-property constraint on Turnover is the
+ * backstop across instances.
+ */
+@Component
+public class PropertyLocks {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    public PropertyLocks(@Value("${turnover.moveout.lock-stripes:256}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Lock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(String propertyId) {
+        int h = propertyId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+}
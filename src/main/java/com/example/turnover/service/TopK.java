@@ -0,0 +1,43 @@
+package com.example.turnover.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The k largest of a stream of values, in O(k) memory: a min-heap of at most k entries whose root is
+ * the smallest value kept, so each new value is one comparison against it (plus a log k swap if larger).
+ * Not thread-safe.
+ */
+public final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(k + 1, order);
+    }
+
+    public void offer(T value) {
+        if (heap.size() < k) {
+            heap.add(value);
+        } else if (order.compare(value, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(value);
+        }
+    }
+
+    /** Largest first */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.dto.TurnoverRow;
+import com.example.turnover.model.enums.TurnoverStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Pages through turnovers newest first for GET /turnovers.
+ *
+ * Keyset (seek) pagination on (startedAt, id): a page starts strictly after the last row of the previous
+ * one, so the database seeks into idx_turnover_started_at_id instead of skipping OFFSET rows — page 10 000
+ * costs what page 1 does, and rows inserted meanwhile neither repeat nor shift a page. startedAt is the
+ * business time (simulated history is backdated), id breaks ties.
+ *
+ * Rows are read from a JPA result stream as DTO projections and handed to the caller one at a time, so a
+ * page is never materialized as a list nor kept in the persistence context.
+ */
+@Service
+public class TurnoverListingService {
+
+    private static final int FETCH_SIZE = 200;
+
+    private final EntityManager entityManager;
+
+    public TurnoverListingService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /** Optional filters: status, property id prefix, startedAt in [from, to) */
+    public record Filter(TurnoverStatus status, String propertyPrefix, LocalDateTime from, LocalDateTime to) {
+    }
+
+    /** Position after a row; travels as an opaque URL-safe token */
+    public record Cursor(LocalDateTime startedAt, UUID id) {
+
+        public static Cursor after(TurnoverRow row) {
+            return new Cursor(row.startedAt(), row.id());
+        }
+
+        public String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((startedAt + "," + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** Throws IllegalArgumentException for a token this service did not issue */
+        public static Cursor decode(String token) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(",", 2);
+                return new Cursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
+    /** Receives the rows of a page in order */
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(TurnoverRow row) throws IOException;
+    }
+
+    /**
+     * Streams up to limit rows after the cursor (null: from the newest) to the writer and returns the
+     * cursor of the next page, or null if this was the last. One extra row is read to tell the two apart.
+     */
+    @Transactional(readOnly = true)
+    public Cursor page(Filter filter, Cursor after, int limit, RowWriter writer) throws IOException {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        if (filter.status() != null) {
+            where.add("t.status = :status");
+            params.put("status", filter.status());
+        }
+        if (filter.propertyPrefix() != null && !filter.propertyPrefix().isEmpty()) {
+            where.add("t.propertyId like :prefix escape '\\'");
+            params.put("prefix", escapeLike(filter.propertyPrefix()) + "%");
+        }
+        if (filter.from() != null) {
+            where.add("t.startedAt >= :from");
+            params.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            where.add("t.startedAt < :to");
+            params.put("to", filter.to());
+        }
+        if (after != null) {
+            // the redundant leading bound lets the planner turn the seek into an index range
+            where.add("t.startedAt <= :afterStartedAt and (t.startedAt < :afterStartedAt or t.id < :afterId)");
+            params.put("afterStartedAt", after.startedAt());
+            params.put("afterId", after.id());
+        }
+
+        String jpql = "select new com.example.turnover.model.dto.TurnoverRow("
+                + "t.id, t.propertyId, t.status, t.startedAt, t.completedAt) from Turnover t"
+                + (where.isEmpty() ? "" : " where " + String.join(" and ", where))
+                + " order by t.startedAt desc, t.id desc";
+        TypedQuery<TurnoverRow> query = entityManager.createQuery(jpql, TurnoverRow.class)
+                .setMaxResults(limit + 1)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Math.min(limit + 1, FETCH_SIZE));
+        params.forEach(query::setParameter);
+
+        int written = 0;
+        TurnoverRow last = null;
+        try (Stream<TurnoverRow> rows = query.getResultStream()) {
+            for (TurnoverRow row : (Iterable<TurnoverRow>) rows::iterator) {
+                if (written == limit) {
+                    return Cursor.after(last);
+                }
+                writer.write(row);
+                last = row;
+                written++;
+            }
+        }
+        return null;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.turnover.service;
 
+import com.example.turnover.changes.TurnoverChangeFeed;
 import com.example.turnover.events.TenantMovedOutEvent;
+import com.example.turnover.events.TurnoverEventPublisher;
 import com.example.turnover.events.TurnoverReadyForMoveInEvent;
 import com.example.turnover.events.WorkOrderCompletedEvent;
 import com.example.turnover.model.entity.Turnover;
@@ -10,15 +12,24 @@ import com.example.turnover.model.enums.WorkOrderStatus;
 import com.example.turnover.model.enums.WorkOrderType;
 import com.example.turnover.repository.TurnoverRepository;
 import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.sla.SlaBreachDetector;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
 
 @Service
 public class TurnoverService {
@@ -27,34 +38,105 @@ public class TurnoverService {
 
     private final TurnoverRepository turnoverRepository;
     private final WorkOrderRepository workOrderRepository;
-    private final ApplicationEventPublisher publisher;
+    private final TurnoverEventPublisher publisher;
+    private final CycleTimeHistograms histograms;
+    private final PropertyLocks propertyLocks;
+    private final ActiveTurnoverRegistry registry;
+    private final SlaBreachDetector slaBreachDetector;
+    private final TransactionTemplate transactionTemplate;
+    private final PipelineMetrics metrics;
+    private final TurnoverChangeFeed changeFeed;
+    private final KpiSummaryAggregator summaryAggregator;
 
     public TurnoverService(TurnoverRepository turnoverRepository,
                            WorkOrderRepository workOrderRepository,
-                           ApplicationEventPublisher publisher) {
+                           TurnoverEventPublisher publisher,
+                           CycleTimeHistograms histograms,
+                           PropertyLocks propertyLocks,
+                           ActiveTurnoverRegistry registry,
+                           SlaBreachDetector slaBreachDetector,
+                           TransactionTemplate transactionTemplate,
+                           PipelineMetrics metrics,
+                           TurnoverChangeFeed changeFeed,
+                           KpiSummaryAggregator summaryAggregator) {
         this.turnoverRepository = turnoverRepository;
         this.workOrderRepository = workOrderRepository;
         this.publisher = publisher;
+        this.histograms = histograms;
+        this.propertyLocks = propertyLocks;
+        this.registry = registry;
+        this.slaBreachDetector = slaBreachDetector;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.changeFeed = changeFeed;
+        this.summaryAggregator = summaryAggregator;
     }
 
     /**
      * Entry point: tenant has vacated the property.
      * Kafka analogy: producer publishes to topic "tenant.moved-out"
+     *
+     * Idempotent per property: concurrent move-outs for the same property serialize on its lock
+     * stripe (held until the transaction has committed) and collapse into one turnover. Whether a
+     * turnover is already in progress is answered by {@link ActiveTurnoverRegistry} — no query
+     * unless there is one to return. Should the registry have missed it (or another instance win
+     * the race), the unique active-property constraint rejects our insert and the active turnover
+     * is returned instead.
      */
     public Turnover handleMoveOut(String propertyId) {
-        if (turnoverRepository.findByPropertyIdAndStatus(propertyId, TurnoverStatus.IN_PROGRESS).isPresent()) {
-            log.warn("Turnover already in progress for property {}", propertyId);
-            return turnoverRepository.findByPropertyIdAndStatus(propertyId, TurnoverStatus.IN_PROGRESS).get();
+        return handleMoveOut(propertyId, LocalDateTime.now());
+    }
+
+    /** Move-out at a given (possibly past) time — used by the simulator to replay history at accelerated time */
+    public Turnover handleMoveOut(String propertyId, LocalDateTime movedOutAt) {
+        Timer.Sample sample = metrics.start();
+        Lock lock = propertyLocks.lockFor(propertyId);
+        lock.lock();
+        try {
+            Turnover active = findActive(propertyId);
+            if (active != null) {
+                log.warn("Turnover already in progress for property {}", propertyId);
+                return active;
+            }
+            return transactionTemplate.execute(status -> startTurnover(propertyId, movedOutAt));
+        } catch (DataIntegrityViolationException e) {
+            Turnover active = turnoverRepository.findByPropertyIdAndStatus(propertyId, TurnoverStatus.IN_PROGRESS)
+                    .orElseThrow(() -> e);
+            log.warn("Property {} already had turnover {} in progress — returning it", propertyId, active.getId());
+            registry.repair(propertyId, active.getId());
+            return active;
+        } finally {
+            lock.unlock();
+            metrics.stop(sample, "moveout", null);
+        }
+    }
+
+    private Turnover findActive(String propertyId) {
+        UUID turnoverId = registry.find(propertyId);
+        if (turnoverId == null) {
+            return null;
         }
+        Optional<Turnover> turnover = turnoverRepository.findById(turnoverId);
+        if (turnover.isPresent() && turnover.get().getStatus() == TurnoverStatus.IN_PROGRESS) {
+            return turnover.get();
+        }
+        registry.repair(propertyId, null);
+        return null;
+    }
 
+    private Turnover startTurnover(String propertyId, LocalDateTime movedOutAt) {
         Turnover turnover = new Turnover();
         turnover.setPropertyId(propertyId);
-        turnover.setStartedAt(LocalDateTime.now());
+        turnover.setActivePropertyId(propertyId);
+        turnover.setStartedAt(movedOutAt);
         turnover.setStatus(TurnoverStatus.IN_PROGRESS);
-        turnoverRepository.save(turnover);
+        turnover.setPendingWorkOrderTypes(WorkOrderType.allBits());
+        turnoverRepository.saveAndFlush(turnover);
+        registry.register(propertyId, turnover.getId());
+        summaryAggregator.turnoversStarted(1);
 
         log.info("[EVENT → tenant.moved-out] property={}", propertyId);
-        publisher.publishEvent(new TenantMovedOutEvent(propertyId));
+        publisher.publish(new TenantMovedOutEvent(propertyId, turnover.getId(), movedOutAt));
 
         return turnover;
     }
@@ -65,15 +147,34 @@ public class TurnoverService {
      * Only INSPECTION is created here — it is the critical-path gate.
      * CLEANING and REPAIR cannot begin until the inspection report is available.
      * This is the main bottleneck in an unoptimised process: everything waits on inspection.
+     *
+     * Consumers run in their own transaction (REQUIRES_NEW: they may be invoked from the producer's
+     * after-commit callback) and tolerate redelivery — the outbox relay delivers at-least-once.
+     * Bulk ingestion ({@link BulkMoveOutService}) writes the INSPECTION itself, so it is skipped here too.
+     * Ordered ahead of the KPI projection, which re-reads what this consumer wrote.
      */
     @EventListener
+    @Order(0)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void onTenantMovedOut(TenantMovedOutEvent event) {
-        Turnover turnover = turnoverRepository
-                .findByPropertyIdAndStatus(event.getPropertyId(), TurnoverStatus.IN_PROGRESS)
-                .orElseThrow();
+        metrics.consumed(event, "consume.tenant-moved-out");
+        Timer.Sample sample = metrics.start();
+        try {
+            createInspection(event);
+        } finally {
+            metrics.stop(sample, "consume.tenant-moved-out", WorkOrderType.INSPECTION);
+        }
+    }
 
-        log.info("[CONSUMER ← tenant.moved-out] Creating INSPECTION work order for turnover={}", turnover.getId());
-        createWorkOrder(turnover, WorkOrderType.INSPECTION);
+    private void createInspection(TenantMovedOutEvent event) {
+        UUID turnoverId = event.getTurnoverId();
+        if (workOrderRepository.existsByTurnoverIdAndType(turnoverId, WorkOrderType.INSPECTION)) {
+            log.debug("Duplicate tenant.moved-out for turnover={} ignored", turnoverId);
+            return;
+        }
+
+        log.info("[CONSUMER ← tenant.moved-out] Creating INSPECTION work order for turnover={}", turnoverId);
+        createWorkOrder(turnoverId, WorkOrderType.INSPECTION, event.getMovedOutAt());
     }
 
     /**
@@ -86,33 +187,75 @@ public class TurnoverService {
      *
      * In Kafka this fan-out would be two independent consumer groups each receiving the same event,
      * allowing CLEANING and REPAIR to be dispatched concurrently to different vendor queues.
+     *
+     * Progress is tracked as a pending-type bitmask on the Turnover row: clearing the bit is the
+     * idempotency check (a redelivered event clears nothing and is ignored) and completion is a
+     * conditional update — no work-order list is loaded.
      */
     @EventListener
+    @Order(0)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void onWorkOrderCompleted(WorkOrderCompletedEvent event) {
-        if (event.getType() == WorkOrderType.INSPECTION) {
-            Turnover turnover = turnoverRepository.findById(event.getTurnoverId()).orElseThrow();
-            log.info("[CONSUMER ← workorder.completed] INSPECTION done — unlocking CLEANING + REPAIR in parallel for turnover={}", event.getTurnoverId());
-            createWorkOrder(turnover, WorkOrderType.CLEANING);
-            createWorkOrder(turnover, WorkOrderType.REPAIR);
+        metrics.consumed(event, "consume.workorder-completed");
+        Timer.Sample sample = metrics.start();
+        try {
+            if (advance(event.getTurnoverId(), event.getType(), event.getCompletedAt())) {
+                checkTurnoverCompletion(event.getTurnoverId(), event.getCompletedAt());
+            }
+        } finally {
+            metrics.stop(sample, "consume.workorder-completed", event.getType());
         }
+    }
 
-        checkTurnoverCompletion(event.getTurnoverId());
+    /**
+     * Batch counterpart of {@link #onWorkOrderCompleted} for work orders of one turnover completed in the
+     * caller's transaction: each type is advanced as the consumer would, but completion is checked once,
+     * at the latest completion time. The workorder.completed events published for them later find their
+     * types already cleared and are ignored by the consumer. Returns true if the turnover completed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean applyCompletions(UUID turnoverId, List<WorkOrder> completed) {
+        LocalDateTime latest = null;
+        for (WorkOrder wo : completed) {
+            if (advance(turnoverId, wo.getType(), wo.getCompletedAt())
+                    && (latest == null || wo.getCompletedAt().isAfter(latest))) {
+                latest = wo.getCompletedAt();
+            }
+        }
+        return latest != null && checkTurnoverCompletion(turnoverId, latest);
     }
 
-    private void checkTurnoverCompletion(java.util.UUID turnoverId) {
-        List<WorkOrder> orders = workOrderRepository.findByTurnoverId(turnoverId);
-        boolean allDone = orders.stream().allMatch(o -> o.getStatus() == WorkOrderStatus.COMPLETED);
+    /** Clears the type's pending bit and unlocks what follows it; false for an already cleared (duplicate) type */
+    private boolean advance(UUID turnoverId, WorkOrderType type, LocalDateTime completedAt) {
+        if (turnoverRepository.clearPendingType(turnoverId, type.bit(), ~type.bit()) == 0) {
+            log.debug("Duplicate workorder.completed type={} turnover={} ignored", type, turnoverId);
+            return false;
+        }
 
-        if (allDone && orders.size() == WorkOrderType.values().length) {
-            Turnover turnover = turnoverRepository.findById(turnoverId).orElseThrow();
-            turnover.setStatus(TurnoverStatus.COMPLETED);
-            turnover.setCompletedAt(LocalDateTime.now());
-            turnoverRepository.save(turnover);
+        if (type == WorkOrderType.INSPECTION) {
+            log.info("[CONSUMER ← workorder.completed] INSPECTION done — unlocking CLEANING + REPAIR in parallel for turnover={}", turnoverId);
+            createWorkOrder(turnoverId, WorkOrderType.CLEANING, completedAt);
+            createWorkOrder(turnoverId, WorkOrderType.REPAIR, completedAt);
+        }
+        return true;
+    }
 
-            long cycleHours = Duration.between(turnover.getStartedAt(), turnover.getCompletedAt()).toHours();
-            log.info("[EVENT → property.ready-for-move-in] property={} cycleTime={}h", turnover.getPropertyId(), cycleHours);
-            publisher.publishEvent(new TurnoverReadyForMoveInEvent(turnover.getPropertyId(), turnoverId, cycleHours));
+    private boolean checkTurnoverCompletion(UUID turnoverId, LocalDateTime completedAt) {
+        if (turnoverRepository.completeIfNoPendingWorkOrders(turnoverId, completedAt,
+                TurnoverStatus.COMPLETED, TurnoverStatus.IN_PROGRESS) == 0) {
+            return false;
         }
+
+        Turnover turnover = turnoverRepository.findById(turnoverId).orElseThrow();
+        TransactionCallbacks.afterCommit(() -> histograms.recordTurnover(turnover.getStartedAt(), completedAt));
+        registry.release(turnover.getPropertyId(), turnoverId);
+        changeFeed.turnoverCompleted(turnover, completedAt);
+
+        long cycleHours = Duration.between(turnover.getStartedAt(), completedAt).toHours();
+        summaryAggregator.turnoverCompleted(cycleHours);
+        log.info("[EVENT → property.ready-for-move-in] property={} cycleTime={}h", turnover.getPropertyId(), cycleHours);
+        publisher.publish(new TurnoverReadyForMoveInEvent(turnover.getPropertyId(), turnoverId, cycleHours));
+        return true;
     }
 
     /**
@@ -123,18 +266,24 @@ public class TurnoverService {
      */
     @EventListener
     public void onTurnoverReadyForMoveIn(TurnoverReadyForMoveInEvent event) {
+        metrics.consumed(event, "consume.ready-for-move-in");
+        Timer.Sample sample = metrics.start();
         log.info("[CONSUMER ← property.ready-for-move-in] Property {} is READY — cycle time: {}h (KPI target: ≤36h)",
                 event.getPropertyId(), event.getCycleTimeHours());
+        metrics.stop(sample, "consume.ready-for-move-in", null);
     }
 
-    private void createWorkOrder(Turnover turnover, WorkOrderType type) {
+    private void createWorkOrder(UUID turnoverId, WorkOrderType type, LocalDateTime startedAt) {
         WorkOrder wo = new WorkOrder();
-        wo.setTurnoverId(turnover.getId());
+        wo.setTurnoverId(turnoverId);
         wo.setType(type);
         wo.setStatus(WorkOrderStatus.PENDING);
-        wo.setStartedAt(LocalDateTime.now());
-        wo.setSlaDeadline(LocalDateTime.now().plusHours(type.getSlaHours()));
+        wo.setStartedAt(startedAt);
+        wo.setSlaDeadline(startedAt.plusHours(type.getSlaHours()));
         workOrderRepository.save(wo);
-        log.info("[WORK ORDER CREATED] type={} slaDeadline={}h turnoverId={}", type, type.getSlaHours(), turnover.getId());
+        slaBreachDetector.watch(wo);
+        changeFeed.workOrderCreated(wo);
+        TransactionCallbacks.afterCommit(() -> metrics.workOrderCreated(type));
+        log.info("[WORK ORDER CREATED] type={} slaDeadline={}h turnoverId={}", type, type.getSlaHours(), turnoverId);
     }
 }
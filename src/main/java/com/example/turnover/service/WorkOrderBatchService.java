@@ -0,0 +1,98 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.dto.WorkOrderBatchResult;
+import com.example.turnover.model.dto.WorkOrderCompletion;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.repository.WorkOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies a vendor's offline completions in one transaction instead of one request (and one event
+ * chain) per work order.
+ *
+ * All work orders are loaded with one IN-list query and completed; the completions are then grouped
+ * by turnover and each turnover is advanced once via {@link TurnoverService#applyCompletions}, so
+ * completion is checked once per turnover rather than once per work order. Every event of the batch
+ * is buffered by the publisher and flushed together after the commit.
+ *
+ * Re-syncing the same completions is harmless: work orders already completed are reported as such
+ * and publish nothing.
+ */
+@Service
+public class WorkOrderBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkOrderBatchService.class);
+
+    private final WorkOrderRepository workOrderRepository;
+    private final WorkOrderService workOrderService;
+    private final TurnoverService turnoverService;
+    private final PipelineMetrics metrics;
+
+    public WorkOrderBatchService(WorkOrderRepository workOrderRepository,
+                                 WorkOrderService workOrderService,
+                                 TurnoverService turnoverService,
+                                 PipelineMetrics metrics) {
+        this.workOrderRepository = workOrderRepository;
+        this.workOrderService = workOrderService;
+        this.turnoverService = turnoverService;
+        this.metrics = metrics;
+    }
+
+    @Transactional
+    public WorkOrderBatchResult completeAll(List<WorkOrderCompletion> completions) {
+        return metrics.time("workorder.complete-batch", null, () -> apply(completions));
+    }
+
+    private WorkOrderBatchResult apply(List<WorkOrderCompletion> completions) {
+        List<UUID> ids = new ArrayList<>(completions.size());
+        for (WorkOrderCompletion completion : completions) {
+            ids.add(completion.workOrderId());
+        }
+        Map<UUID, WorkOrder> workOrders = new HashMap<>();
+        for (WorkOrder wo : workOrderRepository.findAllById(ids)) {
+            workOrders.put(wo.getId(), wo);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkOrderBatchResult.Item> results = new ArrayList<>(completions.size());
+        Map<UUID, List<WorkOrder>> completedByTurnover = new LinkedHashMap<>();
+        int completed = 0;
+        for (WorkOrderCompletion completion : completions) {
+            WorkOrder wo = workOrders.get(completion.workOrderId());
+            if (wo == null) {
+                results.add(new WorkOrderBatchResult.Item(completion.workOrderId(), WorkOrderBatchResult.Status.NOT_FOUND, null));
+                continue;
+            }
+            if (wo.getStatus() == WorkOrderStatus.COMPLETED) {
+                results.add(new WorkOrderBatchResult.Item(wo.getId(), WorkOrderBatchResult.Status.ALREADY_COMPLETED, wo.getTurnoverId()));
+                continue;
+            }
+            workOrderService.complete(wo, completion.completedAt() != null ? completion.completedAt() : now);
+            completedByTurnover.computeIfAbsent(wo.getTurnoverId(), k -> new ArrayList<>()).add(wo);
+            results.add(new WorkOrderBatchResult.Item(wo.getId(), WorkOrderBatchResult.Status.COMPLETED, wo.getTurnoverId()));
+            completed++;
+        }
+
+        int turnoversCompleted = 0;
+        for (Map.Entry<UUID, List<WorkOrder>> entry : completedByTurnover.entrySet()) {
+            if (turnoverService.applyCompletions(entry.getKey(), entry.getValue())) {
+                turnoversCompleted++;
+            }
+        }
+        log.info("[BATCH] {} of {} work orders completed across {} turnovers ({} turnovers completed)",
+                completed, completions.size(), completedByTurnover.size(), turnoversCompleted);
+        return new WorkOrderBatchResult(completed, completedByTurnover.size(), turnoversCompleted, results);
+    }
+}
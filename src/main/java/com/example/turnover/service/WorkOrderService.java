@@ -1,13 +1,20 @@
 package com.example.turnover.service;
 
+import com.example.turnover.changes.TurnoverChangeFeed;
+import com.example.turnover.events.TurnoverEventPublisher;
 import com.example.turnover.events.WorkOrderCompletedEvent;
+import com.example.turnover.events.WorkOrderSlaBreachedEvent;
 import com.example.turnover.model.entity.WorkOrder;
 import com.example.turnover.model.enums.WorkOrderStatus;
 import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.sla.SlaBreachDetector;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -18,11 +25,21 @@ public class WorkOrderService {
     private static final Logger log = LoggerFactory.getLogger(WorkOrderService.class);
 
     private final WorkOrderRepository repository;
-    private final ApplicationEventPublisher publisher;
+    private final TurnoverEventPublisher publisher;
+    private final CycleTimeHistograms histograms;
+    private final SlaBreachDetector slaBreachDetector;
+    private final PipelineMetrics metrics;
+    private final TurnoverChangeFeed changeFeed;
 
-    public WorkOrderService(WorkOrderRepository repository, ApplicationEventPublisher publisher) {
+    public WorkOrderService(WorkOrderRepository repository, TurnoverEventPublisher publisher,
+                            CycleTimeHistograms histograms, SlaBreachDetector slaBreachDetector,
+                            PipelineMetrics metrics, TurnoverChangeFeed changeFeed) {
         this.repository = repository;
         this.publisher = publisher;
+        this.histograms = histograms;
+        this.slaBreachDetector = slaBreachDetector;
+        this.metrics = metrics;
+        this.changeFeed = changeFeed;
     }
 
     /**
@@ -31,16 +48,55 @@ public class WorkOrderService {
      *
      * WorkOrderService only knows about work orders — it has no direct dependency
      * on TurnoverService. The event bus (Kafka) decouples the two services completely.
+     *
+     * The status change and the event commit together (outbox) or the event follows the commit.
+     * Completing an already completed work order is a no-op: its completion time, duration sample
+     * and event stay those of the first completion.
      */
+    @Transactional
     public WorkOrder complete(UUID id) {
+        return complete(id, LocalDateTime.now());
+    }
+
+    /** Completion at a given (possibly past) time — used by the simulator to replay history at accelerated time */
+    @Transactional
+    public WorkOrder complete(UUID id, LocalDateTime completedAt) {
         WorkOrder wo = repository.findById(id).orElseThrow();
+        if (wo.getStatus() == WorkOrderStatus.COMPLETED) {
+            log.debug("Work order {} already completed at {} — ignored", id, wo.getCompletedAt());
+            return wo;
+        }
+        return metrics.time("workorder.complete", wo.getType(), () -> complete(wo, completedAt));
+    }
+
+    /** Completes an already loaded work order in the caller's transaction — used by batch completion */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public WorkOrder complete(WorkOrder wo, LocalDateTime completedAt) {
         wo.setStatus(WorkOrderStatus.COMPLETED);
-        wo.setCompletedAt(LocalDateTime.now());
+        wo.setCompletedAt(completedAt);
         repository.save(wo);
+        TransactionCallbacks.afterCommit(() -> histograms.recordWorkOrder(wo.getType(), wo.getStartedAt(), completedAt));
+        slaBreachDetector.unwatch(wo.getId());
+        changeFeed.workOrderCompleted(wo);
 
         log.info("[EVENT → workorder.completed] type={} workOrderId={} turnoverId={}", wo.getType(), wo.getId(), wo.getTurnoverId());
-        publisher.publishEvent(new WorkOrderCompletedEvent(wo.getTurnoverId(), wo.getId(), wo.getType()));
+        publisher.publish(new WorkOrderCompletedEvent(wo.getTurnoverId(), wo.getId(), wo.getType(), completedAt));
 
         return wo;
     }
+
+    /**
+     * Kafka analogy: consumer on topic "workorder.sla-breached"
+     *
+     * In a real system a vendor-management service would escalate or reassign the job here,
+     * while there is still time to protect the 36h turnover target.
+     */
+    @EventListener
+    public void onSlaBreached(WorkOrderSlaBreachedEvent event) {
+        metrics.consumed(event, "consume.sla-breached");
+        Timer.Sample sample = metrics.start();
+        log.warn("[CONSUMER ← workorder.sla-breached] {} work order {} missed its SLA deadline {} (turnover={})",
+                event.getType(), event.getWorkOrderId(), event.getSlaDeadline(), event.getTurnoverId());
+        metrics.stop(sample, "consume.sla-breached", event.getType());
+    }
 }
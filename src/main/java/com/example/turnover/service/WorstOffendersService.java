@@ -0,0 +1,101 @@
+package com.example.turnover.service;
+
+import com.example.turnover.model.dto.SlowTurnover;
+import com.example.turnover.model.dto.TurnoverRow;
+import com.example.turnover.model.dto.WorkOrderOverrun;
+import com.example.turnover.model.dto.WorkOrderRow;
+import com.example.turnover.model.enums.WorkOrderType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Morning triage: the slowest turnovers and the worst SLA overruns per work order type in a startedAt range.
+ *
+ * Neither ranking has an index to read in order (cycle time and overrun are computed, and open rows grow
+ * with the clock), so each is one pass over a result stream into a {@link TopK} heap: memory is O(k)
+ * however much history the range covers, never the sort of a whole table. The startedAt range is a range
+ * scan of idx_turnover_started_at_id / idx_work_order_started_at. Open turnovers and work orders are
+ * measured against the supplied reference time, as in {@link KpiCalculator}.
+ */
+@Service
+public class WorstOffendersService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final Comparator<SlowTurnover> BY_CYCLE_TIME =
+            Comparator.comparingLong(SlowTurnover::cycleTimeHours)
+                    .thenComparing(SlowTurnover::startedAt, Comparator.reverseOrder());
+
+    private static final Comparator<WorkOrderOverrun> BY_OVERRUN =
+            Comparator.comparingLong(WorkOrderOverrun::overrunHours)
+                    .thenComparing(WorkOrderOverrun::startedAt, Comparator.reverseOrder());
+
+    private final EntityManager entityManager;
+
+    public WorstOffendersService(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /** The k longest cycle times among turnovers started in [from, to) */
+    @Transactional(readOnly = true)
+    public List<SlowTurnover> slowestTurnovers(LocalDateTime from, LocalDateTime to, int k, LocalDateTime now) {
+        TopK<SlowTurnover> top = new TopK<>(k, BY_CYCLE_TIME);
+        TypedQuery<TurnoverRow> query = inRange(entityManager.createQuery(
+                "select new com.example.turnover.model.dto.TurnoverRow(t.id, t.propertyId, t.status, t.startedAt, t.completedAt)"
+                        + " from Turnover t where t.startedAt >= :from and t.startedAt < :to", TurnoverRow.class), from, to);
+        try (Stream<TurnoverRow> rows = query.getResultStream()) {
+            rows.forEach(t -> {
+                LocalDateTime end = t.completedAt() != null ? t.completedAt() : now;
+                top.offer(new SlowTurnover(t.id(), t.propertyId(), t.status(), t.startedAt(), t.completedAt(),
+                        Duration.between(t.startedAt(), end).toHours()));
+            });
+        }
+        return top.toList();
+    }
+
+    /** Per type, the k work orders started in [from, to) furthest past their SLA; types with no overrun map to [] */
+    @Transactional(readOnly = true)
+    public Map<WorkOrderType, List<WorkOrderOverrun>> worstOverruns(LocalDateTime from, LocalDateTime to, int k,
+                                                                    LocalDateTime now) {
+        Map<WorkOrderType, TopK<WorkOrderOverrun>> tops = new EnumMap<>(WorkOrderType.class);
+        for (WorkOrderType type : WorkOrderType.values()) {
+            tops.put(type, new TopK<>(k, BY_OVERRUN));
+        }
+        TypedQuery<WorkOrderRow> query = inRange(entityManager.createQuery(
+                "select new com.example.turnover.model.dto.WorkOrderRow(w.id, w.turnoverId, w.type, w.status, w.startedAt, w.completedAt)"
+                        + " from WorkOrder w where w.startedAt >= :from and w.startedAt < :to", WorkOrderRow.class), from, to);
+        try (Stream<WorkOrderRow> rows = query.getResultStream()) {
+            rows.forEach(w -> {
+                LocalDateTime end = w.completedAt() != null ? w.completedAt() : now;
+                long actualHours = Duration.between(w.startedAt(), end).toHours();
+                long slaHours = w.type().getSlaHours();
+                if (actualHours > slaHours) {
+                    tops.get(w.type()).offer(new WorkOrderOverrun(w.id(), w.turnoverId(), w.type(), w.status(),
+                            w.startedAt(), w.completedAt(), slaHours, actualHours, actualHours - slaHours));
+                }
+            });
+        }
+
+        Map<WorkOrderType, List<WorkOrderOverrun>> result = new EnumMap<>(WorkOrderType.class);
+        tops.forEach((type, top) -> result.put(type, top.toList()));
+        return result;
+    }
+
+    private static <T> TypedQuery<T> inRange(TypedQuery<T> query, LocalDateTime from, LocalDateTime to) {
+        return query
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.turnover.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Log-normal duration of one work order type: median hours and the sigma of the underlying normal.
+ * sigma = 0 gives a fixed duration (the hand-written demo timelines); ~0.5 is a realistic vendor spread
+ * with a long right tail.
+ */
+public record DurationModel(double medianHours, double sigma) {
+
+    public DurationModel {
+        if (medianHours <= 0 || sigma < 0) {
+            throw new IllegalArgumentException("medianHours must be > 0 and sigma >= 0");
+        }
+    }
+
+    public static DurationModel fixed(double hours) {
+        return new DurationModel(hours, 0);
+    }
+
+    long sampleSeconds(RandomGenerator random) {
+        double hours = sigma == 0 ? medianHours : medianHours * Math.exp(sigma * random.nextGaussian());
+        return Math.max(1, Math.round(hours * 3600));
+    }
+}
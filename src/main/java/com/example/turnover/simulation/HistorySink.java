@@ -0,0 +1,106 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.entity.TimeOrderedUuidGenerator;
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.readmodel.TurnoverKpiProjection;
+import com.example.turnover.service.KpiSummaryAggregator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes each completed simulated turnover, with its work orders, as history: plain JDBC batches of
+ * BATCH_SIZE turnovers per transaction, so millions of rows load without the persistence context.
+ * The running KPI totals and the per-turnover KPI projection are updated as rows are written.
+ */
+final class HistorySink implements SimulationSink {
+
+    private static final int BATCH_SIZE = 2_000;
+    private static final int SAMPLE_SIZE = 10;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final KpiSummaryAggregator summaryAggregator;
+    private final TurnoverKpiProjection kpiProjection;
+    private final VirtualClock clock;
+    private final List<Object[]> turnovers = new ArrayList<>(BATCH_SIZE);
+    private final List<UUID> turnoverIds = new ArrayList<>(BATCH_SIZE);
+    private final List<Object[]> workOrders = new ArrayList<>(BATCH_SIZE * WorkOrderType.values().length);
+    private final List<UUID> sample = new ArrayList<>(SAMPLE_SIZE);
+
+    HistorySink(JdbcTemplate jdbc, TransactionTemplate transactionTemplate,
+                KpiSummaryAggregator summaryAggregator, TurnoverKpiProjection kpiProjection, VirtualClock clock) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.summaryAggregator = summaryAggregator;
+        this.kpiProjection = kpiProjection;
+        this.clock = clock;
+    }
+
+    @Override
+    public void movedOut(SimulatedTurnover turnover) {
+        turnover.turnoverId = TimeOrderedUuidGenerator.next();
+        if (sample.size() < SAMPLE_SIZE) sample.add(turnover.turnoverId);
+    }
+
+    @Override
+    public void workOrderCompleted(SimulatedTurnover turnover, WorkOrderType type) {
+    }
+
+    @Override
+    public void turnoverCompleted(SimulatedTurnover turnover) {
+        LocalDateTime movedOut = clock.toDateTime(turnover.movedOutAt);
+        LocalDateTime ready = clock.toDateTime(clock.now());
+        turnovers.add(new Object[]{turnover.turnoverId, turnover.propertyId, ts(movedOut), ts(ready),
+                TurnoverStatus.COMPLETED.name()});
+        turnoverIds.add(turnover.turnoverId);
+        for (WorkOrderType type : WorkOrderType.values()) {
+            LocalDateTime started = clock.toDateTime(turnover.workOrderCreatedAt[type.ordinal()]);
+            LocalDateTime completed = clock.toDateTime(turnover.workOrderCompletedAt[type.ordinal()]);
+            LocalDateTime deadline = started.plusHours(type.getSlaHours());
+            workOrders.add(new Object[]{TimeOrderedUuidGenerator.next(), turnover.turnoverId, type.name(),
+                    WorkOrderStatus.COMPLETED.name(), ts(started), ts(deadline), ts(completed),
+                    completed.isAfter(deadline) ? ts(deadline) : null});
+        }
+        summaryAggregator.recordHistorical(movedOut, ready);
+        if (turnovers.size() == BATCH_SIZE) flush();
+    }
+
+    @Override
+    public void finish() {
+        if (!turnovers.isEmpty()) flush();
+    }
+
+    @Override
+    public List<UUID> sampleTurnoverIds() {
+        return List.copyOf(sample);
+    }
+
+    private void flush() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbc.batchUpdate("""
+                    INSERT INTO turnover (id, property_id, started_at, completed_at, status, pending_work_order_types, version)
+                    VALUES (?, ?, ?, ?, ?, 0, 0)
+                    """, turnovers);
+            jdbc.batchUpdate("""
+                    INSERT INTO work_order (id, turnover_id, type, status, started_at, sla_deadline, completed_at, sla_breached_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                    """, workOrders);
+            kpiProjection.refreshAll(turnoverIds);
+        });
+        turnovers.clear();
+        turnoverIds.clear();
+        workOrders.clear();
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+}
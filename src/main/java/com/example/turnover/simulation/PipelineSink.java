@@ -0,0 +1,68 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.service.TurnoverService;
+import com.example.turnover.service.WorkOrderService;
+import com.example.turnover.sla.SlaBreachDetector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replays the simulation through the real services: every move-out and work order completion goes
+ * through TurnoverService / WorkOrderService with its simulated timestamp, so the work orders, the
+ * completion check, the events and every listener run exactly as in production — only faster.
+ *
+ * The engine follows the same process model as the pipeline (PARALLEL), so each work order it completes
+ * has already been created by the pipeline's own listener. That needs synchronous event dispatch.
+ * The SLA breach detector does not watch these work orders: their deadlines lie in simulated time.
+ */
+final class PipelineSink implements SimulationSink {
+
+    private static final int SAMPLE_SIZE = 10;
+
+    private final TurnoverService turnoverService;
+    private final WorkOrderService workOrderService;
+    private final WorkOrderRepository workOrderRepository;
+    private final VirtualClock clock;
+    private final List<UUID> sample = new ArrayList<>(SAMPLE_SIZE);
+
+    PipelineSink(TurnoverService turnoverService, WorkOrderService workOrderService,
+                 WorkOrderRepository workOrderRepository, VirtualClock clock) {
+        this.turnoverService = turnoverService;
+        this.workOrderService = workOrderService;
+        this.workOrderRepository = workOrderRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public void movedOut(SimulatedTurnover turnover) {
+        SlaBreachDetector.unwatched(() -> turnover.turnoverId =
+                turnoverService.handleMoveOut(turnover.propertyId, clock.toDateTime(clock.now())).getId());
+        if (sample.size() < SAMPLE_SIZE) sample.add(turnover.turnoverId);
+    }
+
+    @Override
+    public void workOrderCompleted(SimulatedTurnover turnover, WorkOrderType type) {
+        WorkOrder wo = workOrderRepository.findByTurnoverIdAndType(turnover.turnoverId, type)
+                .orElseThrow(() -> new IllegalStateException(
+                        type + " work order for turnover " + turnover.turnoverId + " was not created by the pipeline"));
+        SlaBreachDetector.unwatched(() -> workOrderService.complete(wo.getId(), clock.toDateTime(clock.now())));
+    }
+
+    @Override
+    public void turnoverCompleted(SimulatedTurnover turnover) {
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    @Override
+    public List<UUID> sampleTurnoverIds() {
+        return List.copyOf(sample);
+    }
+}
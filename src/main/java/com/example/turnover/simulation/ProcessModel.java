@@ -0,0 +1,33 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.util.List;
+
+/** Which work orders a finished one unlocks */
+public enum ProcessModel {
+
+    /** The current pipeline: INSPECTION gates CLEANING and REPAIR, which then run in parallel */
+    PARALLEL {
+        @Override
+        List<WorkOrderType> unlockedBy(WorkOrderType done) {
+            return done == WorkOrderType.INSPECTION
+                    ? List.of(WorkOrderType.CLEANING, WorkOrderType.REPAIR)
+                    : List.of();
+        }
+    },
+
+    /** The "before" state: INSPECTION → CLEANING → REPAIR, one at a time */
+    SEQUENTIAL {
+        @Override
+        List<WorkOrderType> unlockedBy(WorkOrderType done) {
+            return switch (done) {
+                case INSPECTION -> List.of(WorkOrderType.CLEANING);
+                case CLEANING -> List.of(WorkOrderType.REPAIR);
+                case REPAIR -> List.of();
+            };
+        }
+    };
+
+    abstract List<WorkOrderType> unlockedBy(WorkOrderType done);
+}
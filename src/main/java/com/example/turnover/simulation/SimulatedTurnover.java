@@ -0,0 +1,23 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.util.UUID;
+
+/** In-flight state of one simulated turnover; times are virtual-clock seconds */
+final class SimulatedTurnover {
+
+    final String propertyId;
+    final long movedOutAt;
+    final long[] workOrderCreatedAt = new long[WorkOrderType.values().length];
+    final long[] workOrderCompletedAt = new long[WorkOrderType.values().length];
+    int pendingWorkOrders = WorkOrderType.values().length;
+
+    /** Id of the persisted turnover, assigned by sinks that write one */
+    UUID turnoverId;
+
+    SimulatedTurnover(String propertyId, long movedOutAt) {
+        this.propertyId = propertyId;
+        this.movedOutAt = movedOutAt;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One simulation run. Every field is optional in the JSON request; missing ones take the defaults below.
+ *
+ *  turnovers        move-outs to generate; the run ends when the last one is ready for move-in
+ *  moveOutsPerHour  Poisson arrival rate (exponential gaps, first move-out at startAt)
+ *  process          PARALLEL (current pipeline) or SEQUENTIAL (the "before" state)
+ *  durations        per-type log-normal work durations; types left out keep the default
+ *  vendorCrews      per-type crews working in parallel; a work order waits FIFO for a free crew,
+ *                   and that wait counts against its SLA. Types left out have unlimited crews
+ *  sink             STATS (report only), HISTORY (bulk-insert completed turnovers as history) or
+ *                   PIPELINE (drive TurnoverService / WorkOrderService with the simulated timestamps)
+ *  startAt          virtual time of the first move-out; by default far enough back that the whole
+ *                   expected arrival window, plus a week, ends before now
+ *  seed             random seed — equal seeds give identical runs, so what-if variants compare fairly
+ *  propertyPrefix   property ids are prefix-1, prefix-2, ...; a single-turnover run uses the prefix as is
+ */
+public record SimulationConfig(Integer turnovers,
+                               Double moveOutsPerHour,
+                               ProcessModel process,
+                               Map<WorkOrderType, DurationModel> durations,
+                               Map<WorkOrderType, Integer> vendorCrews,
+                               Sink sink,
+                               LocalDateTime startAt,
+                               Long seed,
+                               String propertyPrefix) {
+
+    public static final int MAX_TURNOVERS = 5_000_000;
+
+    public enum Sink { STATS, HISTORY, PIPELINE }
+
+    private static final Map<WorkOrderType, DurationModel> DEFAULT_DURATIONS = Map.of(
+            WorkOrderType.INSPECTION, new DurationModel(3, 0.4),
+            WorkOrderType.CLEANING, new DurationModel(7, 0.4),
+            WorkOrderType.REPAIR, new DurationModel(20, 0.6));
+
+    public SimulationConfig {
+        turnovers = turnovers != null ? turnovers : 1000;
+        moveOutsPerHour = moveOutsPerHour != null ? moveOutsPerHour : 10.0;
+        process = process != null ? process : ProcessModel.PARALLEL;
+        Map<WorkOrderType, DurationModel> merged = new EnumMap<>(DEFAULT_DURATIONS);
+        if (durations != null) {
+            merged.putAll(durations);
+        }
+        durations = Map.copyOf(merged);
+        vendorCrews = vendorCrews != null ? Map.copyOf(vendorCrews) : Map.of();
+        sink = sink != null ? sink : Sink.STATS;
+        if (startAt == null) {
+            long arrivalWindowSeconds = moveOutsPerHour > 0 ? (long) (turnovers / moveOutsPerHour * 3600) : 0;
+            startAt = LocalDateTime.now().minusSeconds(arrivalWindowSeconds).minusWeeks(1);
+        }
+        seed = seed != null ? seed : 1L;
+        propertyPrefix = propertyPrefix != null ? propertyPrefix : "SIM-" + Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    /** Rejects out-of-range settings (IllegalArgumentException), checked before a run starts */
+    void validate() {
+        if (turnovers < 1 || turnovers > MAX_TURNOVERS) {
+            throw new IllegalArgumentException("turnovers must be between 1 and " + MAX_TURNOVERS);
+        }
+        if (moveOutsPerHour <= 0) {
+            throw new IllegalArgumentException("moveOutsPerHour must be > 0");
+        }
+        for (Map.Entry<WorkOrderType, Integer> crews : vendorCrews.entrySet()) {
+            if (crews.getValue() < 1) {
+                throw new IllegalArgumentException("vendorCrews." + crews.getKey() + " must be >= 1");
+            }
+        }
+    }
+
+    /**
+     * Before state as a single backdated turnover: fully sequential, each step running over SLA.
+     *
+     * 0h  INSPECTION (SLA 4h)  → done at 6h  (+2h over SLA)
+     * 6h  CLEANING   (SLA 8h)  → done at 16h (+2h over SLA)
+     * 16h REPAIR     (SLA 24h) → done at 60h (+20h over SLA) ← bottleneck
+     * cycle = 60h | KPI target = 36h | variance = +24h
+     */
+    public static SimulationConfig bottleneckScenario(String propertyId, LocalDateTime moveOut) {
+        return singleTurnover(propertyId, moveOut, ProcessModel.SEQUENTIAL, 6, 10, 44);
+    }
+
+    /**
+     * After state as a single backdated turnover: INSPECTION gates CLEANING + REPAIR, which run in parallel.
+     *
+     * 0h  INSPECTION (SLA 4h)  → done at 3h  (within SLA ✓)
+     * 3h  CLEANING   (SLA 8h)  → done at 10h (within SLA ✓) ← parallel
+     * 3h  REPAIR     (SLA 24h) → done at 26h (within SLA ✓) ← parallel
+     * cycle = 26h | KPI target = 36h | saved 34h vs bottleneck
+     */
+    public static SimulationConfig optimizedScenario(String propertyId, LocalDateTime moveOut) {
+        return singleTurnover(propertyId, moveOut, ProcessModel.PARALLEL, 3, 7, 23);
+    }
+
+    private static SimulationConfig singleTurnover(String propertyId, LocalDateTime moveOut, ProcessModel process,
+                                                   double inspectionHours, double cleaningHours, double repairHours) {
+        return new SimulationConfig(1, 1.0, process,
+                Map.of(WorkOrderType.INSPECTION, DurationModel.fixed(inspectionHours),
+                        WorkOrderType.CLEANING, DurationModel.fixed(cleaningHours),
+                        WorkOrderType.REPAIR, DurationModel.fixed(repairHours)),
+                null, Sink.HISTORY, moveOut, null, propertyId);
+    }
+
+    String propertyId(long number) {
+        return turnovers == 1 ? propertyPrefix : propertyPrefix + "-" + number;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.DurationHistogram;
+import com.example.turnover.service.KpiSummaryAggregator;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Discrete-event simulation of the turnover process. A priority queue of timed events (move-outs and
+ * work order completions) is drained in time order; the virtual clock jumps from one event to the next,
+ * so a year of turnovers takes as long as its events do to process.
+ *
+ * Per work order type there is a vendor with a number of crews; a work order created while all crews
+ * are busy waits in FIFO order. Everything a sink needs is on {@link SimulatedTurnover}; the engine
+ * itself keeps only in-flight turnovers and fixed-size histograms, so run length does not grow memory.
+ *
+ * Single-threaded and single-use.
+ */
+final class SimulationEngine {
+
+    private static final int ARRIVAL = 0;
+    private static final int WORK_DONE = 1;
+
+    private final SimulationConfig config;
+    private final VirtualClock clock;
+    private final SimulationSink sink;
+    private final SplittableRandom random;
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private final Map<WorkOrderType, Vendor> vendors = new EnumMap<>(WorkOrderType.class);
+    private final double meanArrivalGapSeconds;
+    private long sequence;
+    private int arrivals;
+
+    private final DurationHistogram cycleTime = new DurationHistogram();
+    private long cycleSecondsSum;
+    private long completedTurnovers;
+    private long withinKpi;
+
+    SimulationEngine(SimulationConfig config, VirtualClock clock, SimulationSink sink) {
+        this.config = config;
+        this.clock = clock;
+        this.sink = sink;
+        this.random = new SplittableRandom(config.seed());
+        this.meanArrivalGapSeconds = 3600 / config.moveOutsPerHour();
+        for (WorkOrderType type : WorkOrderType.values()) {
+            vendors.put(type, new Vendor(config.durations().get(type), config.vendorCrews().get(type)));
+        }
+    }
+
+    private record Event(long time, long sequence, int kind, SimulatedTurnover turnover, WorkOrderType type)
+            implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private record Job(SimulatedTurnover turnover, WorkOrderType type) {
+    }
+
+    private static final class Vendor {
+        final DurationModel duration;
+        final Integer crews;
+        final ArrayDeque<Job> queue = new ArrayDeque<>();
+        final DurationHistogram workOrderTime = new DurationHistogram();
+        final DurationHistogram queueWait = new DurationHistogram();
+        int busyCrews;
+        long busySeconds;
+        long completed;
+        long onTime;
+
+        Vendor(DurationModel duration, Integer crews) {
+            this.duration = duration;
+            this.crews = crews;
+        }
+
+        boolean hasFreeCrew() {
+            return crews == null || busyCrews < crews;
+        }
+    }
+
+    SimulationReport run() {
+        long wallStart = System.nanoTime();
+        schedule(0, ARRIVAL, null, null);
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            clock.advanceTo(event.time());
+            if (event.kind() == ARRIVAL) {
+                arrive();
+            } else {
+                finishWork(event.turnover(), event.type());
+            }
+        }
+        sink.finish();
+        return report(System.nanoTime() - wallStart);
+    }
+
+    private void arrive() {
+        arrivals++;
+        SimulatedTurnover turnover = new SimulatedTurnover(config.propertyId(arrivals), clock.now());
+        sink.movedOut(turnover);
+        createWorkOrder(turnover, WorkOrderType.INSPECTION);
+
+        if (arrivals < config.turnovers()) {
+            double gap = -Math.log(1 - random.nextDouble()) * meanArrivalGapSeconds;
+            schedule(clock.now() + Math.round(gap), ARRIVAL, null, null);
+        }
+    }
+
+    private void createWorkOrder(SimulatedTurnover turnover, WorkOrderType type) {
+        turnover.workOrderCreatedAt[type.ordinal()] = clock.now();
+        Vendor vendor = vendors.get(type);
+        if (vendor.hasFreeCrew()) {
+            startWork(vendor, turnover, type);
+        } else {
+            vendor.queue.add(new Job(turnover, type));
+        }
+    }
+
+    private void startWork(Vendor vendor, SimulatedTurnover turnover, WorkOrderType type) {
+        long seconds = vendor.duration.sampleSeconds(random);
+        vendor.busyCrews++;
+        vendor.busySeconds += seconds;
+        vendor.queueWait.record(clock.now() - turnover.workOrderCreatedAt[type.ordinal()]);
+        schedule(clock.now() + seconds, WORK_DONE, turnover, type);
+    }
+
+    private void finishWork(SimulatedTurnover turnover, WorkOrderType type) {
+        Vendor vendor = vendors.get(type);
+        vendor.busyCrews--;
+        Job next = vendor.queue.poll();
+        if (next != null) {
+            startWork(vendor, next.turnover(), next.type());
+        }
+
+        long now = clock.now();
+        long elapsed = now - turnover.workOrderCreatedAt[type.ordinal()];
+        turnover.workOrderCompletedAt[type.ordinal()] = now;
+        vendor.completed++;
+        vendor.workOrderTime.record(elapsed);
+        if (elapsed <= type.getSlaHours() * 3600L) vendor.onTime++;
+        sink.workOrderCompleted(turnover, type);
+
+        turnover.pendingWorkOrders--;
+        List<WorkOrderType> unlocked = config.process().unlockedBy(type);
+        for (WorkOrderType nextType : unlocked) {
+            createWorkOrder(turnover, nextType);
+        }
+        if (turnover.pendingWorkOrders == 0) {
+            long cycle = now - turnover.movedOutAt;
+            completedTurnovers++;
+            cycleSecondsSum += cycle;
+            cycleTime.record(cycle);
+            if (cycle / 3600 <= KpiSummaryAggregator.KPI_TARGET_HOURS) withinKpi++;
+            sink.turnoverCompleted(turnover);
+        }
+    }
+
+    private void schedule(long time, int kind, SimulatedTurnover turnover, WorkOrderType type) {
+        events.add(new Event(time, sequence++, kind, turnover, type));
+    }
+
+    private SimulationReport report(long wallNanos) {
+        long span = Math.max(1, clock.now());
+        Map<WorkOrderType, SimulationReport.WorkOrderStats> workOrders = new EnumMap<>(WorkOrderType.class);
+        for (Map.Entry<WorkOrderType, Vendor> entry : vendors.entrySet()) {
+            Vendor v = entry.getValue();
+            Double utilization = v.crews == null ? null : round(100.0 * v.busySeconds / ((double) v.crews * span));
+            workOrders.put(entry.getKey(), new SimulationReport.WorkOrderStats(
+                    v.completed,
+                    v.completed == 0 ? 0 : round(100.0 * v.onTime / v.completed),
+                    v.workOrderTime.summary(),
+                    v.queueWait.summary(),
+                    v.crews,
+                    utilization));
+        }
+
+        long wallMillis = Math.max(1, wallNanos / 1_000_000);
+        return new SimulationReport(
+                config.turnovers(),
+                config.process(),
+                config.sink(),
+                clock.toDateTime(0),
+                clock.toDateTime(clock.now()),
+                round(clock.now() / 3600.0),
+                wallMillis,
+                completedTurnovers * 60_000 / wallMillis,
+                completedTurnovers == 0 ? 0 : round(cycleSecondsSum / 3600.0 / completedTurnovers),
+                completedTurnovers == 0 ? 0 : round(100.0 * withinKpi / completedTurnovers),
+                cycleTime.summary(),
+                workOrders,
+                sink.sampleTurnoverIds());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.DurationHistogram;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of a simulation run. Cycle-time and work-order figures are in simulated hours; wallMillis and
+ * turnoversPerMinute measure how fast the run itself went.
+ *
+ * sampleTurnoverIds holds the first few persisted turnovers (HISTORY / PIPELINE) for GET /turnovers/{id}/kpi.
+ */
+public record SimulationReport(int turnovers,
+                               ProcessModel process,
+                               SimulationConfig.Sink sink,
+                               LocalDateTime firstMoveOut,
+                               LocalDateTime lastReady,
+                               double simulatedHours,
+                               long wallMillis,
+                               long turnoversPerMinute,
+                               double avgCycleHours,
+                               double withinKpiPct,
+                               DurationHistogram.Summary cycleTime,
+                               Map<WorkOrderType, WorkOrderStats> workOrders,
+                               List<UUID> sampleTurnoverIds) {
+
+    /**
+     * duration runs from creation (when the gate opened) to completion, including queueWait for a crew.
+     * crews is null for unlimited capacity; utilization is busy crew-time over available crew-time.
+     */
+    public record WorkOrderStats(long count,
+                                 double slaCompliancePct,
+                                 DurationHistogram.Summary duration,
+                                 DurationHistogram.Summary queueWait,
+                                 Integer crews,
+                                 Double vendorUtilizationPct) {
+    }
+}
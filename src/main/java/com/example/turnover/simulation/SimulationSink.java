@@ -0,0 +1,43 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Where a simulation run's events go, in virtual-time order */
+interface SimulationSink {
+
+    void movedOut(SimulatedTurnover turnover);
+
+    void workOrderCompleted(SimulatedTurnover turnover, WorkOrderType type);
+
+    void turnoverCompleted(SimulatedTurnover turnover);
+
+    /** Called once after the last event */
+    void finish();
+
+    /** First few persisted turnover ids, for the report */
+    default List<UUID> sampleTurnoverIds() {
+        return List.of();
+    }
+
+    /** STATS runs: nothing leaves the engine */
+    SimulationSink NONE = new SimulationSink() {
+        @Override
+        public void movedOut(SimulatedTurnover turnover) {
+        }
+
+        @Override
+        public void workOrderCompleted(SimulatedTurnover turnover, WorkOrderType type) {
+        }
+
+        @Override
+        public void turnoverCompleted(SimulatedTurnover turnover) {
+        }
+
+        @Override
+        public void finish() {
+        }
+    };
+}
@@ -0,0 +1,81 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.readmodel.TurnoverKpiProjection;
+import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.service.KpiSummaryAggregator;
+import com.example.turnover.service.TurnoverService;
+import com.example.turnover.service.WorkOrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs discrete-event simulations of the turnover process — for realistic data volumes (HISTORY),
+ * for exercising the real pipeline at accelerated time (PIPELINE) and for what-if capacity planning
+ * (STATS: same seed, different crews or process).
+ *
+ * STATS and HISTORY runs are bounded only by the event queue and the inserts; PIPELINE runs by the
+ * services themselves, one transaction per move-out and per work order.
+ */
+@Service
+public class TurnoverSimulator {
+
+    private static final Logger log = LoggerFactory.getLogger(TurnoverSimulator.class);
+
+    private final TurnoverService turnoverService;
+    private final WorkOrderService workOrderService;
+    private final WorkOrderRepository workOrderRepository;
+    private final KpiSummaryAggregator summaryAggregator;
+    private final TurnoverKpiProjection kpiProjection;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean synchronousDispatch;
+
+    public TurnoverSimulator(TurnoverService turnoverService,
+                             WorkOrderService workOrderService,
+                             WorkOrderRepository workOrderRepository,
+                             KpiSummaryAggregator summaryAggregator,
+                             TurnoverKpiProjection kpiProjection,
+                             JdbcTemplate jdbc,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${turnover.events.async.enabled:false}") boolean asyncEvents,
+                             @Value("${turnover.outbox.enabled:false}") boolean outbox) {
+        this.turnoverService = turnoverService;
+        this.workOrderService = workOrderService;
+        this.workOrderRepository = workOrderRepository;
+        this.summaryAggregator = summaryAggregator;
+        this.kpiProjection = kpiProjection;
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.synchronousDispatch = !asyncEvents && !outbox;
+    }
+
+    public SimulationReport run(SimulationConfig config) {
+        config.validate();
+        if (config.sink() == SimulationConfig.Sink.PIPELINE) {
+            if (config.process() != ProcessModel.PARALLEL) {
+                throw new IllegalArgumentException("The PIPELINE sink runs the real (PARALLEL) process only");
+            }
+            if (!synchronousDispatch) {
+                throw new IllegalArgumentException("The PIPELINE sink needs synchronous event dispatch "
+                        + "(turnover.events.async.enabled=false, turnover.outbox.enabled=false)");
+            }
+        }
+
+        VirtualClock clock = new VirtualClock(config.startAt());
+        SimulationSink sink = switch (config.sink()) {
+            case STATS -> SimulationSink.NONE;
+            case HISTORY -> new HistorySink(jdbc, transactionTemplate, summaryAggregator, kpiProjection, clock);
+            case PIPELINE -> new PipelineSink(turnoverService, workOrderService, workOrderRepository, clock);
+        };
+
+        SimulationReport report = new SimulationEngine(config, clock, sink).run();
+        log.info("[SIMULATION] {} turnovers ({}, {}) over {}h simulated in {} ms — avg cycle {}h, {}% within KPI",
+                report.turnovers(), report.process(), report.sink(), report.simulatedHours(), report.wallMillis(),
+                report.avgCycleHours(), report.withinKpiPct());
+        return report;
+    }
+}
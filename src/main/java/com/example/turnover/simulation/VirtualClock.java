@@ -0,0 +1,32 @@
+package com.example.turnover.simulation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Simulated time: whole seconds since the simulation's origin. Only the engine moves it forward,
+ * jumping straight to the next scheduled event — idle hours cost nothing.
+ */
+final class VirtualClock {
+
+    private final LocalDateTime origin;
+    private long now;
+
+    VirtualClock(LocalDateTime origin) {
+        this.origin = origin;
+    }
+
+    long now() {
+        return now;
+    }
+
+    void advanceTo(long seconds) {
+        if (seconds < now) {
+            throw new IllegalStateException("Virtual clock cannot move backwards: " + seconds + " < " + now);
+        }
+        now = seconds;
+    }
+
+    LocalDateTime toDateTime(long seconds) {
+        return origin.plusSeconds(seconds);
+    }
+}
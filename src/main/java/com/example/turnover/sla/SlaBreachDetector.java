@@ -0,0 +1,170 @@
+package com.example.turnover.sla;
+
+import com.example.turnover.events.TurnoverEventPublisher;
+import com.example.turnover.events.WorkOrderSlaBreachedEvent;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.SlaWatchView;
+import com.example.turnover.repository.WorkOrderRepository;
+import com.example.turnover.service.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes workorder.sla-breached the moment an open work order passes its SLA deadline.
+ *
+ * Every open work order's deadline sits in a {@link TimingWheel} (one tick = turnover.sla.tick-ms):
+ * created work orders are scheduled and completed ones cancelled in O(1), once their transaction
+ * commits. Each tick only touches the slots that came due — there is no periodic table scan.
+ * The wheel is rebuilt from the database on startup; work orders that breached while the
+ * application was down fire on the first tick.
+ *
+ * Before publishing, due work orders are re-checked in one query and flagged (slaBreachedAt) in the
+ * same transaction as the events, so a work order completed just before its deadline is not
+ * reported and a breach is published once, across restarts too. slaBreachedAt holds the deadline —
+ * the moment the SLA was missed — not the tick that noticed it.
+ *
+ * Work orders created inside {@link #unwatched} are not watched: simulated runs replay past deadlines,
+ * which would all fire on the next tick.
+ */
+@Component
+public class SlaBreachDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaBreachDetector.class);
+
+    private static final int PUBLISH_CHUNK = 500;
+
+    private static final List<WorkOrderStatus> OPEN = List.of(WorkOrderStatus.PENDING, WorkOrderStatus.IN_PROGRESS);
+
+    private static final ThreadLocal<Boolean> UNWATCHED = ThreadLocal.withInitial(() -> false);
+
+    private final WorkOrderRepository repository;
+    private final TurnoverEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final long originMillis;
+
+    /** Guarded by this */
+    private final TimingWheel<UUID, Watch> wheel;
+
+    private record Watch(UUID turnoverId, WorkOrderType type, LocalDateTime slaDeadline) {
+    }
+
+    public SlaBreachDetector(WorkOrderRepository repository,
+                             TurnoverEventPublisher publisher,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${turnover.sla.tick-ms:1000}") long tickMillis) {
+        this.repository = repository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tickMillis;
+        this.originMillis = System.currentTimeMillis();
+        this.wheel = new TimingWheel<>(0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SlaWatchView> open = repository.findSlaWatchlist(OPEN);
+        synchronized (this) {
+            for (SlaWatchView wo : open) {
+                wheel.schedule(wo.getId(), new Watch(wo.getTurnoverId(), wo.getType(), wo.getSlaDeadline()),
+                        expiryTick(wo.getSlaDeadline()));
+            }
+        }
+        log.info("[SLA] watching {} open work orders", open.size());
+    }
+
+    /** Runs the action without watching the work orders it creates on this thread (simulated time) */
+    public static void unwatched(Runnable action) {
+        boolean outer = UNWATCHED.get();
+        UNWATCHED.set(true);
+        try {
+            action.run();
+        } finally {
+            UNWATCHED.set(outer);
+        }
+    }
+
+    /** Starts watching a newly created work order's deadline once its transaction commits */
+    public void watch(WorkOrder wo) {
+        if (UNWATCHED.get()) {
+            return;
+        }
+        Watch watch = new Watch(wo.getTurnoverId(), wo.getType(), wo.getSlaDeadline());
+        long expiry = expiryTick(wo.getSlaDeadline());
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                wheel.schedule(wo.getId(), watch, expiry);
+            }
+        });
+    }
+
+    /** Stops watching a work order once the transaction completing it commits */
+    public void unwatch(UUID workOrderId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                wheel.cancel(workOrderId);
+            }
+        });
+    }
+
+    public synchronized int watching() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelayString = "${turnover.sla.tick-ms:1000}")
+    public void tick() {
+        Map<UUID, Watch> due = new LinkedHashMap<>();
+        synchronized (this) {
+            wheel.advanceTo(tickOf(System.currentTimeMillis()), due::put);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<UUID> ids = new ArrayList<>(due.keySet());
+        for (int from = 0; from < ids.size(); from += PUBLISH_CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + PUBLISH_CHUNK, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> publishBreaches(chunk, due));
+        }
+    }
+
+    private void publishBreaches(List<UUID> candidates, Map<UUID, Watch> due) {
+        List<UUID> breached = repository.findUnbreachedOpenIds(candidates, WorkOrderStatus.COMPLETED);
+        if (breached.isEmpty()) {
+            return;
+        }
+        repository.markSlaBreached(breached);
+        for (UUID id : breached) {
+            Watch watch = due.get(id);
+            log.info("[EVENT → workorder.sla-breached] type={} workOrderId={} deadline={}",
+                    watch.type(), id, watch.slaDeadline());
+            publisher.publish(new WorkOrderSlaBreachedEvent(watch.turnoverId(), id, watch.type(), watch.slaDeadline()));
+        }
+    }
+
+    /** First tick at or after the deadline, so a breach is never reported early */
+    private long expiryTick(LocalDateTime deadline) {
+        long deadlineMillis = deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis);
+    }
+
+    private long tickOf(long epochMillis) {
+        return Math.floorDiv(epochMillis - originMillis, tickMillis);
+    }
+}
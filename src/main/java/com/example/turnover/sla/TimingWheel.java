@@ -0,0 +1,143 @@
+package com.example.turnover.sla;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hierarchical timing wheel: {@value #LEVELS} wheels of 64 slots, where a slot on level n spans
+ * 64^n ticks. An entry sits on the level of the highest 6-bit tick group in which its expiry
+ * differs from the current tick; when the current tick enters that slot the entry is cascaded
+ * to a finer level, until it reaches level 0 and expires.
+ *
+ * Schedule and cancel are O(1) (slots are intrusive doubly-linked lists, entries are indexed by
+ * key); each entry is cascaded at most LEVELS - 1 times over its lifetime. Ticks are plain longs
+ * chosen by the caller. Not thread-safe.
+ */
+final class TimingWheel<K, V> {
+
+    static final int LEVELS = 6;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long HORIZON_MASK = (1L << (LEVELS * SLOT_BITS)) - 1;
+
+    private final Node<K, V>[][] wheels;
+    private final Map<K, Node<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.wheels = new Node[LEVELS][SLOTS];
+        for (Node<K, V>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = Node.sentinel();
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Schedules the key to expire at expiryTick, replacing any earlier schedule for it. Expiries
+     * that are already due fire on the next tick; ones beyond the wheel's 64^LEVELS horizon are
+     * pulled in to it.
+     */
+    void schedule(K key, V value, long expiryTick) {
+        cancel(key);
+        long expiry = Math.min(Math.max(expiryTick, currentTick + 1), currentTick | HORIZON_MASK);
+        Node<K, V> node = new Node<>(key, value, expiry);
+        entries.put(key, node);
+        place(node);
+    }
+
+    boolean cancel(K key) {
+        Node<K, V> node = entries.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    /** Moves the wheel forward to tick, handing every entry that expires on the way to sink */
+    void advanceTo(long tick, BiConsumer<K, V> sink) {
+        if (entries.isEmpty()) {
+            currentTick = Math.max(currentTick, tick);
+            return;
+        }
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    cascade(wheels[level][slotOf(currentTick, level)]);
+                }
+            }
+            Node<K, V> head = wheels[0][slotOf(currentTick, 0)];
+            while (head.next != head) {
+                Node<K, V> node = head.next;
+                node.unlink();
+                entries.remove(node.key);
+                sink.accept(node.key, node.value);
+            }
+        }
+    }
+
+    private void cascade(Node<K, V> head) {
+        while (head.next != head) {
+            Node<K, V> node = head.next;
+            node.unlink();
+            place(node);
+        }
+    }
+
+    private void place(Node<K, V> node) {
+        long diff = node.expiryTick ^ currentTick;
+        int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+        node.linkBefore(wheels[level][slotOf(node.expiryTick, level)]);
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) (tick >>> (level * SLOT_BITS)) & SLOT_MASK;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long expiryTick;
+        Node<K, V> prev = this;
+        Node<K, V> next = this;
+
+        Node(K key, V value, long expiryTick) {
+            this.key = key;
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+
+        static <K, V> Node<K, V> sentinel() {
+            return new Node<>(null, null, Long.MIN_VALUE);
+        }
+
+        void linkBefore(Node<K, V> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+-- Baseline: the schema Hibernate generated with ddl-auto=create-drop, now owned by migrations.
+
+CREATE TABLE turnover (
+    id                       UUID         NOT NULL,
+    property_id              VARCHAR(255),
+    -- equals property_id while IN_PROGRESS, NULL afterwards: at most one active turnover per property
+    active_property_id       VARCHAR(255),
+    started_at               TIMESTAMP(6),
+    completed_at             TIMESTAMP(6),
+    status                   VARCHAR(32),
+    pending_work_order_types INTEGER      NOT NULL,
+    version                  BIGINT,
+    CONSTRAINT pk_turnover PRIMARY KEY (id),
+    CONSTRAINT uk_turnover_active_property UNIQUE (active_property_id)
+);
+
+CREATE TABLE work_order (
+    id              UUID        NOT NULL,
+    turnover_id     UUID,
+    type            VARCHAR(32),
+    status          VARCHAR(32),
+    started_at      TIMESTAMP(6),
+    sla_deadline    TIMESTAMP(6),
+    completed_at    TIMESTAMP(6),
+    sla_breached_at TIMESTAMP(6),
+    CONSTRAINT pk_work_order PRIMARY KEY (id)
+);
+
+CREATE TABLE outbox_event (
+    id               BIGINT       NOT NULL,
+    topic            VARCHAR(255),
+    partition_key    VARCHAR(255),
+    property_id      VARCHAR(255),
+    turnover_id      UUID,
+    work_order_id    UUID,
+    work_order_type  VARCHAR(32),
+    cycle_time_hours BIGINT,
+    sla_deadline     TIMESTAMP(6),
+    occurred_at      TIMESTAMP(6),
+    created_at       TIMESTAMP(6),
+    claimed_by       VARCHAR(255),
+    claimed_at       TIMESTAMP(6),
+    CONSTRAINT pk_outbox_event PRIMARY KEY (id)
+);
+
+-- pooled: Hibernate allocates 50 ids per call (allocationSize on OutboxEvent)
+CREATE SEQUENCE outbox_event_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,15 @@
+-- Indexes for the queries every pipeline step runs. Names are asserted by QueryPlanTest.
+
+-- findByTurnoverId / findByTurnoverIdIn (prefix), existsByTurnoverIdAndType / findByTurnoverIdAndType (full key)
+CREATE INDEX idx_work_order_turnover_type ON work_order (turnover_id, type);
+
+-- findByPropertyIdAndStatus
+CREATE INDEX idx_turnover_property_status ON turnover (property_id, status);
+
+-- Open work orders by deadline: the SLA watchlist (status IN open statuses), oldest deadline first.
+CREATE INDEX idx_work_order_status_deadline ON work_order (status, sla_deadline);
+
+-- IN_PROGRESS turnovers need no index of their own: uk_turnover_active_property (V1) indexes
+-- active_property_id, which is NULL for every other status and therefore acts as a partial unique
+-- index on property_id WHERE status = 'IN_PROGRESS'. On PostgreSQL the equivalent would be
+--   CREATE UNIQUE INDEX ... ON turnover (property_id) WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,34 @@
+-- Read model behind GET /turnovers/{id}/kpi: one denormalized row per turnover, maintained by
+-- TurnoverKpiProjection from pipeline events. Hours are filled in once the step completes; open
+-- steps are measured against "now" when read. One column group per WorkOrderType.
+
+CREATE TABLE turnover_kpi (
+    turnover_id              UUID         NOT NULL,
+    property_id              VARCHAR(255),
+    status                   VARCHAR(32),
+    started_at               TIMESTAMP(6),
+    completed_at             TIMESTAMP(6),
+    cycle_time_hours         BIGINT,
+    -- turnover.version the row was projected from; an older projection never overwrites a newer one
+    turnover_version         BIGINT,
+
+    inspection_status        VARCHAR(32),
+    inspection_sla_deadline  TIMESTAMP(6),
+    inspection_started_at    TIMESTAMP(6),
+    inspection_completed_at  TIMESTAMP(6),
+    inspection_actual_hours  BIGINT,
+
+    cleaning_status          VARCHAR(32),
+    cleaning_sla_deadline    TIMESTAMP(6),
+    cleaning_started_at      TIMESTAMP(6),
+    cleaning_completed_at    TIMESTAMP(6),
+    cleaning_actual_hours    BIGINT,
+
+    repair_status            VARCHAR(32),
+    repair_sla_deadline      TIMESTAMP(6),
+    repair_started_at        TIMESTAMP(6),
+    repair_completed_at      TIMESTAMP(6),
+    repair_actual_hours      BIGINT,
+
+    CONSTRAINT pk_turnover_kpi PRIMARY KEY (turnover_id)
+);
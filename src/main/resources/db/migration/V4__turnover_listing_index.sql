@@ -0,0 +1,4 @@
+-- GET /turnovers: newest first, keyset-paginated on (started_at, id). The seek predicate and the
+-- started_at range filter become a range scan of this index, so a page deep into history reads only
+-- its own rows. Asserted by QueryPlanTest.
+CREATE INDEX idx_turnover_started_at_id ON turnover (started_at DESC, id DESC);
@@ -0,0 +1,3 @@
+-- Worst SLA overruns (GET /turnovers/kpi/overruns) stream the work orders started in a date range;
+-- this turns the range into an index scan instead of a pass over all history. Asserted by QueryPlanTest.
+CREATE INDEX idx_work_order_started_at ON work_order (started_at);
@@ -0,0 +1,7 @@
+-- Poison events: failed deliveries are counted per row, and a row that keeps failing is parked
+-- (dead_lettered_at set) instead of blocking its partition forever. Parked rows stay for inspection.
+ALTER TABLE outbox_event ADD COLUMN attempts INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE outbox_event ADD COLUMN dead_lettered_at TIMESTAMP(6);
+
+-- The relay skips rows whose partition still has an earlier row in flight (claimed, lease not expired)
+CREATE INDEX idx_outbox_event_partition ON outbox_event (partition_key, id);
@@ -0,0 +1,69 @@
+package com.example.turnover.eventlog;
+
+import com.example.turnover.events.PipelineEvent;
+import com.example.turnover.events.TenantMovedOutEvent;
+import com.example.turnover.events.WorkOrderCompletedEvent;
+import com.example.turnover.model.enums.WorkOrderType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appendsRollsSegmentsAndRecoversAfterReopen() throws Exception {
+        UUID turnoverId = UUID.randomUUID();
+        String topic = WorkOrderCompletedEvent.TOPIC;
+
+        try (EventLog log = new EventLog(dir, 4, 256)) {
+            for (int i = 0; i < 40; i++) {
+                log.append(new WorkOrderCompletedEvent(turnoverId, UUID.randomUUID(), WorkOrderType.CLEANING,
+                        LocalDateTime.now()));
+            }
+        }
+
+        try (EventLog log = new EventLog(dir, 4, 256)) {
+            int partition = EventLog.partitionFor(turnoverId.toString(), log.partitionCount(topic));
+            assertEquals(40, log.endOffset(topic, partition));
+
+            List<LogRecord> records = log.read(topic, partition, 35, 10);
+            assertEquals(5, records.size());
+            assertEquals(35, records.get(0).offset());
+            WorkOrderCompletedEvent event = (WorkOrderCompletedEvent) log.decode(topic, records.get(0));
+            assertEquals(turnoverId, event.getTurnoverId());
+            assertEquals(WorkOrderType.CLEANING, event.getType());
+        }
+    }
+
+    @Test
+    void consumerGroupResumesFromCommittedOffset() throws Exception {
+        String topic = TenantMovedOutEvent.TOPIC;
+        try (EventLog log = new EventLog(dir, 1, 1 << 16)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(new TenantMovedOutEvent("PROP-" + i, UUID.randomUUID(), LocalDateTime.now()));
+            }
+            List<LogRecord> first = log.poll("listing", topic, 0, 4);
+            log.commit("listing", topic, 0, first.get(first.size() - 1).offset() + 1);
+        }
+
+        try (EventLog log = new EventLog(dir, 1, 1 << 16)) {
+            List<LogRecord> next = log.poll("listing", topic, 0, 100);
+            assertEquals(6, next.size());
+            assertEquals("PROP-4", ((TenantMovedOutEvent) log.decode(topic, next.get(0))).getPropertyId());
+
+            List<PipelineEvent> replayed = new ArrayList<>();
+            assertEquals(10, log.replay(topic, replayed::add));
+            assertEquals("PROP-0", ((TenantMovedOutEvent) replayed.get(0)).getPropertyId());
+        }
+    }
+}
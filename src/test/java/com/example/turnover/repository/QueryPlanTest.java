@@ -0,0 +1,141 @@
+package com.example.turnover.repository;
+
+import com.example.turnover.model.enums.TurnoverStatus;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.service.TurnoverListingService;
+import com.example.turnover.service.WorstOffendersService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the indexes created by the db/migration scripts: each hot query, as Hibernate generates it for
+ * the real repository or service call, must be planned by H2 as a lookup on its index rather than a
+ * table scan. The SQL is captured by a {@link StatementInspector} and explained with its parameters bound.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.turnover.repository.QueryPlanTest$SqlCapture")
+class QueryPlanTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Autowired
+    TurnoverRepository turnoverRepository;
+
+    @Autowired
+    WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    TurnoverListingService listingService;
+
+    @Autowired
+    WorstOffendersService worstOffendersService;
+
+    private final UUID turnoverId = UUID.randomUUID();
+
+    /** Records the SQL issued on the capturing thread; registered with Hibernate by class name */
+    public static class SqlCapture implements StatementInspector {
+
+        static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> captured = CAPTURED.get();
+            if (captured != null) {
+                captured.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @Test
+    void workOrdersOfATurnoverUseTheTurnoverIndex() {
+        String sql = query(() -> workOrderRepository.findByTurnoverId(turnoverId));
+        assertUsesIndex("IDX_WORK_ORDER_TURNOVER_TYPE", sql, turnoverId);
+    }
+
+    @Test
+    void workOrderOfATypeUsesTheFullTurnoverTypeKey() {
+        String sql = query(() -> workOrderRepository.existsByTurnoverIdAndType(turnoverId, WorkOrderType.INSPECTION));
+        assertUsesIndex("IDX_WORK_ORDER_TURNOVER_TYPE", sql, turnoverId, WorkOrderType.INSPECTION.name(), 1);
+    }
+
+    @Test
+    void turnoverByPropertyAndStatusUsesThePropertyIndex() {
+        String sql = query(() -> turnoverRepository.findByPropertyIdAndStatus("PROP-1", TurnoverStatus.IN_PROGRESS));
+        assertUsesIndex("IDX_TURNOVER_PROPERTY_STATUS", sql, "PROP-1", TurnoverStatus.IN_PROGRESS.name());
+    }
+
+    @Test
+    void slaWatchlistUsesTheOpenDeadlineIndex() {
+        List<WorkOrderStatus> open = List.of(WorkOrderStatus.PENDING, WorkOrderStatus.IN_PROGRESS);
+        String sql = query(() -> workOrderRepository.findSlaWatchlist(open));
+        assertUsesIndex("IDX_WORK_ORDER_STATUS_DEADLINE", sql, open.get(0).name(), open.get(1).name());
+    }
+
+    @Test
+    void turnoverListingSeeksOnTheStartedAtIndex() {
+        TurnoverListingService.Filter filter = new TurnoverListingService.Filter(null, null, null, null);
+        TurnoverListingService.Cursor after = new TurnoverListingService.Cursor(FROM, turnoverId);
+        String sql = query(() -> {
+            try {
+                listingService.page(filter, after, 100, row -> { });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertUsesIndex("IDX_TURNOVER_STARTED_AT_ID", sql, FROM, FROM, turnoverId, 101);
+    }
+
+    @Test
+    void slowestTurnoversScanTheStartedAtRange() {
+        String sql = query(() -> worstOffendersService.slowestTurnovers(FROM, TO, 10, TO));
+        assertUsesIndex("IDX_TURNOVER_STARTED_AT_ID", sql, FROM, TO);
+    }
+
+    @Test
+    void worstOverrunsScanTheWorkOrderStartedAtRange() {
+        String sql = query(() -> worstOffendersService.worstOverruns(FROM, TO, 10, TO));
+        assertUsesIndex("IDX_WORK_ORDER_STARTED_AT", sql, FROM, TO);
+    }
+
+    /** The one SELECT the call issues */
+    private static String query(Runnable call) {
+        List<String> captured = new ArrayList<>();
+        SqlCapture.CAPTURED.set(captured);
+        try {
+            call.run();
+        } finally {
+            SqlCapture.CAPTURED.remove();
+        }
+        List<String> selects = captured.stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+        assertEquals(1, selects.size(), () -> "expected one SELECT, captured " + captured);
+        return selects.get(0);
+    }
+
+    private void assertUsesIndex(String index, String sql, Object... args) {
+        long parameters = sql.chars().filter(c -> c == '?').count();
+        assertEquals(args.length, parameters, () -> "arguments do not match the parameters of:\n" + sql);
+        String plan = jdbc.queryForObject("EXPLAIN " + sql, String.class, args);
+        assertNotNull(plan);
+        assertTrue(plan.toUpperCase().contains(index), () -> "expected " + index + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.turnover.simulation;
+
+import com.example.turnover.model.enums.WorkOrderType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2026, 1, 5, 8, 0);
+
+    /** Records what the engine hands its sink, in order */
+    private static final class RecordingSink implements SimulationSink {
+        record Completion(String propertyId, WorkOrderType type, long at) {
+        }
+
+        final List<Completion> workOrders = new ArrayList<>();
+        final List<SimulatedTurnover> turnovers = new ArrayList<>();
+
+        @Override
+        public void movedOut(SimulatedTurnover turnover) {
+        }
+
+        @Override
+        public void workOrderCompleted(SimulatedTurnover turnover, WorkOrderType type) {
+            workOrders.add(new Completion(turnover.propertyId, type, turnover.workOrderCompletedAt[type.ordinal()]));
+        }
+
+        @Override
+        public void turnoverCompleted(SimulatedTurnover turnover) {
+            turnovers.add(turnover);
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    private static SimulationReport run(SimulationConfig config, SimulationSink sink) {
+        config.validate();
+        return new SimulationEngine(config, new VirtualClock(config.startAt()), sink).run();
+    }
+
+    private static SimulationConfig stats(long seed, Map<WorkOrderType, Integer> vendorCrews) {
+        return new SimulationConfig(5_000, 10.0, ProcessModel.PARALLEL, null, vendorCrews,
+                SimulationConfig.Sink.STATS, ORIGIN, seed, "SIM");
+    }
+
+    private static long hours(long h) {
+        return h * 3600;
+    }
+
+    @Test
+    void sameSeedGivesIdenticalStatsRuns() {
+        Map<WorkOrderType, Integer> crews = Map.of(WorkOrderType.REPAIR, 300);
+        SimulationReport first = run(stats(42, crews), SimulationSink.NONE);
+        SimulationReport second = run(stats(42, crews), SimulationSink.NONE);
+        SimulationReport otherSeed = run(stats(43, crews), SimulationSink.NONE);
+
+        assertEquals(5_000, first.cycleTime().count());
+        assertEquals(first.lastReady(), second.lastReady());
+        assertEquals(first.avgCycleHours(), second.avgCycleHours());
+        assertEquals(first.withinKpiPct(), second.withinKpiPct());
+        assertEquals(first.cycleTime(), second.cycleTime());
+        assertEquals(first.workOrders(), second.workOrders());
+
+        assertNotEquals(first.lastReady(), otherSeed.lastReady());
+    }
+
+    @Test
+    void bottleneckScenarioRunsStepsBackToBackInSixtyHours() {
+        RecordingSink sink = new RecordingSink();
+        SimulationReport report = run(SimulationConfig.bottleneckScenario("PROP-B", ORIGIN), sink);
+
+        assertEquals(List.of(
+                new RecordingSink.Completion("PROP-B", WorkOrderType.INSPECTION, hours(6)),
+                new RecordingSink.Completion("PROP-B", WorkOrderType.CLEANING, hours(16)),
+                new RecordingSink.Completion("PROP-B", WorkOrderType.REPAIR, hours(60))), sink.workOrders);
+        assertEquals(1, sink.turnovers.size());
+        assertEquals(60.0, report.avgCycleHours());
+        assertEquals(0.0, report.withinKpiPct());
+        assertEquals(ORIGIN.plusHours(60), report.lastReady());
+        assertEquals(0.0, report.workOrders().get(WorkOrderType.INSPECTION).slaCompliancePct());
+    }
+
+    @Test
+    void optimizedScenarioRunsCleaningAndRepairInParallelInTwentySixHours() {
+        RecordingSink sink = new RecordingSink();
+        SimulationReport report = run(SimulationConfig.optimizedScenario("PROP-O", ORIGIN), sink);
+
+        assertEquals(List.of(
+                new RecordingSink.Completion("PROP-O", WorkOrderType.INSPECTION, hours(3)),
+                new RecordingSink.Completion("PROP-O", WorkOrderType.CLEANING, hours(10)),
+                new RecordingSink.Completion("PROP-O", WorkOrderType.REPAIR, hours(26))), sink.workOrders);
+        assertEquals(26.0, report.avgCycleHours());
+        assertEquals(100.0, report.withinKpiPct());
+        for (SimulationReport.WorkOrderStats stats : report.workOrders().values()) {
+            assertEquals(100.0, stats.slaCompliancePct());
+        }
+    }
+
+    @Test
+    void singleCrewWorksItsQueueInArrivalOrder() {
+        // every move-out arrives within minutes, long before the one inspection crew is free again
+        SimulationConfig config = new SimulationConfig(20, 200.0, ProcessModel.PARALLEL,
+                Map.of(WorkOrderType.INSPECTION, DurationModel.fixed(5)),
+                Map.of(WorkOrderType.INSPECTION, 1), SimulationConfig.Sink.STATS, ORIGIN, 7L, "FIFO");
+        RecordingSink sink = new RecordingSink();
+        SimulationReport report = run(config, sink);
+
+        List<RecordingSink.Completion> inspections = sink.workOrders.stream()
+                .filter(c -> c.type() == WorkOrderType.INSPECTION)
+                .toList();
+        assertEquals(20, inspections.size());
+        for (int i = 0; i < inspections.size(); i++) {
+            assertEquals("FIFO-" + (i + 1), inspections.get(i).propertyId());
+            assertEquals(hours(5L * (i + 1)), inspections.get(i).at());
+        }
+
+        SimulationReport.WorkOrderStats stats = report.workOrders().get(WorkOrderType.INSPECTION);
+        assertEquals(1, stats.crews());
+        assertTrue(stats.queueWait().maxHours() >= 90, "last inspection waited for the 19 before it");
+        assertEquals(20, sink.turnovers.size());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.turnover.sla;
+
+import com.example.turnover.events.PipelineEvent;
+import com.example.turnover.events.TurnoverEventPublisher;
+import com.example.turnover.events.WorkOrderSlaBreachedEvent;
+import com.example.turnover.model.entity.WorkOrder;
+import com.example.turnover.model.enums.WorkOrderStatus;
+import com.example.turnover.model.enums.WorkOrderType;
+import com.example.turnover.repository.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SlaBreachDetectorTest {
+
+    private WorkOrderRepository repository;
+    private TurnoverEventPublisher publisher;
+    private SlaBreachDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(WorkOrderRepository.class);
+        publisher = mock(TurnoverEventPublisher.class);
+        // no transaction synchronization: watch/unwatch apply immediately
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        detector = new SlaBreachDetector(repository, publisher, transactionTemplate, 1);
+    }
+
+    private static WorkOrder overdue(WorkOrderType type) {
+        WorkOrder wo = new WorkOrder();
+        wo.setId(UUID.randomUUID());
+        wo.setTurnoverId(UUID.randomUUID());
+        wo.setType(type);
+        wo.setStatus(WorkOrderStatus.PENDING);
+        wo.setSlaDeadline(LocalDateTime.now().minusHours(1));
+        return wo;
+    }
+
+    /** Lets the 1 ms wheel reach the first tick, where overdue work orders expire */
+    private void tickPastDeadlines() throws InterruptedException {
+        Thread.sleep(5);
+        detector.tick();
+    }
+
+    @Test
+    void workOrderUnwatchedBeforeTheTickIsNeitherCheckedNorPublished() throws Exception {
+        WorkOrder completed = overdue(WorkOrderType.CLEANING);
+        WorkOrder open = overdue(WorkOrderType.REPAIR);
+        detector.watch(completed);
+        detector.watch(open);
+        detector.unwatch(completed.getId());
+        when(repository.findUnbreachedOpenIds(anyCollection(), eq(WorkOrderStatus.COMPLETED)))
+                .thenReturn(List.of(open.getId()));
+
+        tickPastDeadlines();
+
+        verify(repository).findUnbreachedOpenIds(eq(List.of(open.getId())), eq(WorkOrderStatus.COMPLETED));
+        verify(repository).markSlaBreached(List.of(open.getId()));
+        ArgumentCaptor<PipelineEvent> published = ArgumentCaptor.forClass(PipelineEvent.class);
+        verify(publisher).publish(published.capture());
+        WorkOrderSlaBreachedEvent event = (WorkOrderSlaBreachedEvent) published.getValue();
+        assertEquals(open.getId(), event.getWorkOrderId());
+        assertEquals(open.getSlaDeadline(), event.getSlaDeadline());
+        assertEquals(0, detector.watching());
+    }
+
+    @Test
+    void workOrderCompletedInTheDatabaseBeforeTheTickIsSkipped() throws Exception {
+        // the completion committed, but its unwatch has not reached the wheel yet
+        WorkOrder completed = overdue(WorkOrderType.INSPECTION);
+        detector.watch(completed);
+        when(repository.findUnbreachedOpenIds(anyCollection(), eq(WorkOrderStatus.COMPLETED)))
+                .thenReturn(List.of());
+
+        tickPastDeadlines();
+
+        verify(repository).findUnbreachedOpenIds(eq(List.of(completed.getId())), eq(WorkOrderStatus.COMPLETED));
+        verify(repository, never()).markSlaBreached(anyCollection());
+        verify(publisher, never()).publish(any());
+    }
+
+    @Test
+    void workOrdersCreatedUnwatchedAreNotScheduled() throws Exception {
+        WorkOrder simulated = overdue(WorkOrderType.INSPECTION);
+        SlaBreachDetector.unwatched(() -> detector.watch(simulated));
+        assertEquals(0, detector.watching());
+
+        detector.watch(overdue(WorkOrderType.INSPECTION));
+        assertEquals(1, detector.watching());
+
+        tickPastDeadlines();
+        verify(repository, never()).findUnbreachedOpenIds(eq(List.of(simulated.getId())), any());
+    }
+}
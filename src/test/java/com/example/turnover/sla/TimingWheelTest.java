@@ -0,0 +1,139 @@
+package com.example.turnover.sla;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    /** Advances one tick at a time up to tick, recording the tick at which each key expired */
+    private static Map<String, Long> advance(TimingWheel<String, String> wheel, long tick) {
+        Map<String, Long> fired = new LinkedHashMap<>();
+        while (wheel.currentTick() < tick) {
+            wheel.advanceTo(wheel.currentTick() + 1, (key, value) -> {
+                assertEquals(key, value);
+                assertNull(fired.put(key, wheel.currentTick()), key + " fired twice");
+            });
+        }
+        return fired;
+    }
+
+    private static void schedule(TimingWheel<String, String> wheel, String key, long expiryTick) {
+        wheel.schedule(key, key, expiryTick);
+    }
+
+    @Test
+    void expiresExactlyOnItsTickAcrossLevelBoundaries() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        long[] expiries = {1, 63, 64, 65, 127, 128, 4095, 4096, 4097, 64 * 4096, 64 * 4096 + 1};
+        for (long expiry : expiries) {
+            schedule(wheel, "t" + expiry, expiry);
+        }
+
+        Map<String, Long> fired = advance(wheel, 64 * 4096 + 10);
+
+        assertEquals(expiries.length, fired.size());
+        for (long expiry : expiries) {
+            assertEquals(expiry, fired.get("t" + expiry), "t" + expiry);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesFromANonZeroStartTick() {
+        // from tick 4000, 4063 starts on level 1 and the rest on level 2, which cascades at 4096 and 8192
+        TimingWheel<String, String> wheel = new TimingWheel<>(4000);
+        schedule(wheel, "a", 4063);
+        schedule(wheel, "b", 4096);
+        schedule(wheel, "c", 4096 + 63);
+        schedule(wheel, "d", 8192);
+
+        Map<String, Long> fired = advance(wheel, 9000);
+
+        assertEquals(Map.of("a", 4063L, "b", 4096L, "c", 4159L, "d", 8192L), fired);
+    }
+
+    @Test
+    void bulkAdvanceFiresEverythingDueInExpiryOrder() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        schedule(wheel, "late", 5000);
+        schedule(wheel, "early", 10);
+        schedule(wheel, "middle", 64);
+
+        Map<String, Long> fired = new LinkedHashMap<>();
+        wheel.advanceTo(5000, (key, value) -> fired.put(key, wheel.currentTick()));
+
+        assertEquals(List.of("early", "middle", "late"), List.copyOf(fired.keySet()));
+        assertEquals(5000, fired.get("late"));
+    }
+
+    @Test
+    void cancelledKeyNeverFires() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        schedule(wheel, "kept", 100);
+        schedule(wheel, "cancelled", 100);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("unknown"));
+
+        assertEquals(Map.of("kept", 100L), advance(wheel, 200));
+    }
+
+    @Test
+    void reschedulingAKeyReplacesItsExpiry() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        schedule(wheel, "earlier", 5000);
+        schedule(wheel, "earlier", 70);
+        schedule(wheel, "later", 70);
+        schedule(wheel, "later", 4100);
+
+        assertEquals(2, wheel.size());
+        assertEquals(Map.of("earlier", 70L, "later", 4100L), advance(wheel, 5000));
+    }
+
+    @Test
+    void cancelAfterCascadeStillRemovesTheEntry() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        schedule(wheel, "k", 4200);
+
+        advance(wheel, 4096);   // cascaded from level 2 to level 1
+        assertTrue(wheel.cancel("k"));
+
+        assertTrue(advance(wheel, 5000).isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void alreadyDueExpiryFiresOnTheNextTick() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(1000);
+        schedule(wheel, "past", 10);
+        schedule(wheel, "now", 1000);
+
+        assertEquals(Map.of("past", 1001L, "now", 1001L), advance(wheel, 1001));
+    }
+
+    @Test
+    void expiryBeyondTheHorizonIsPulledIn() {
+        // clamped to the last tick the top level can still address from the current tick
+        long horizon = 1L << (TimingWheel.LEVELS * 6);
+        TimingWheel<String, String> wheel = new TimingWheel<>(horizon - 100);
+        schedule(wheel, "far", Long.MAX_VALUE);
+
+        assertEquals(Map.of("far", horizon - 1), advance(wheel, horizon + 10));
+    }
+
+    @Test
+    void advancingAnEmptyWheelJumpsStraightToTheTick() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.advanceTo(1L << 40, (key, value) -> fail("nothing scheduled"));
+        assertEquals(1L << 40, wheel.currentTick());
+
+        schedule(wheel, "k", (1L << 40) + 64);
+        assertEquals(Map.of("k", (1L << 40) + 64), advance(wheel, (1L << 40) + 100));
+    }
+}